@@ -27,7 +27,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MigratingAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -62,8 +66,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, userPrefs.getAddressBookSaveDelay());
 
         initLogging(config);
 
@@ -76,6 +80,33 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns the storage of the address book at the data file location in {@code userPrefs}, in the format and
+     * with the journaling chosen in {@code userPrefs}. The data file of a format other than XML is migrated from the
+     * XML data file if it does not exist yet.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        AddressBookStorage addressBookStorage;
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            addressBookStorage = new MigratingAddressBookStorage(
+                    new BinaryAddressBookStorage(userPrefs.getAddressBookDataFilePath()), xmlAddressBookStorage);
+            break;
+        case JSON:
+            addressBookStorage = new MigratingAddressBookStorage(
+                    new JsonAddressBookStorage(userPrefs.getAddressBookDataFilePath()), xmlAddressBookStorage);
+            break;
+        default:
+            addressBookStorage = xmlAddressBookStorage;
+        }
+        if (userPrefs.isAddressBookJournaled()) {
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+        }
+        return addressBookStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -187,6 +218,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushAddressBook();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
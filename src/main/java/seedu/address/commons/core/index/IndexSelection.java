@@ -0,0 +1,132 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a selection of indexes, either given as ranges of indexes or as every index in a list.
+ *
+ * A selection of ranges is held as the ranges themselves rather than as every index in them, so that a large range
+ * takes no more space than a single index.
+ */
+public class IndexSelection {
+    private static final IndexSelection ALL = new IndexSelection(null);
+
+    /**
+     * The first and last zero-based index of each range, in order, or null if every index is selected.
+     * Ranges that overlap or are next to each other are merged, so that equal selections hold the same ranges.
+     */
+    private final NavigableMap<Integer, Integer> ranges;
+
+    private IndexSelection(NavigableMap<Integer, Integer> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns a selection of every index in a list.
+     */
+    public static IndexSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a selection of {@code index} only.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return ofRange(index, index);
+    }
+
+    /**
+     * Returns a selection of the indexes from {@code first} to {@code last}, inclusive.
+     * @throws IllegalArgumentException if {@code last} is before {@code first}.
+     */
+    public static IndexSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("The last index of a range should not be before its first index");
+        }
+        NavigableMap<Integer, Integer> ranges = new TreeMap<>();
+        ranges.put(first.getZeroBased(), last.getZeroBased());
+        return new IndexSelection(ranges);
+    }
+
+    /**
+     * Returns a selection of the indexes in either this selection or {@code other}.
+     */
+    public IndexSelection union(IndexSelection other) {
+        requireNonNull(other);
+        if (isAll() || other.isAll()) {
+            return ALL;
+        }
+        NavigableMap<Integer, Integer> unitedRanges = new TreeMap<>(ranges);
+        other.ranges.forEach((first, last) -> addRange(unitedRanges, first, last));
+        return new IndexSelection(unitedRanges);
+    }
+
+    public boolean isAll() {
+        return ranges == null;
+    }
+
+    /**
+     * Returns true if this selection is of a single index.
+     */
+    public boolean isSingle() {
+        return !isAll() && ranges.size() == 1 && ranges.firstKey().equals(ranges.firstEntry().getValue());
+    }
+
+    /**
+     * Returns true if every index in this selection is within a list of {@code listSize} elements.
+     */
+    public boolean isWithin(int listSize) {
+        return isAll() || ranges.lastEntry().getValue() < listSize;
+    }
+
+    /**
+     * Returns the selected zero-based indexes of a list of {@code listSize} elements, in increasing order.
+     * Every index in this selection must be within the list.
+     */
+    public IntStream getZeroBased(int listSize) {
+        assert isWithin(listSize);
+        if (isAll()) {
+            return IntStream.range(0, listSize);
+        }
+        return ranges.entrySet().stream()
+                .flatMapToInt(range -> IntStream.rangeClosed(range.getKey(), range.getValue()));
+    }
+
+    /**
+     * Adds the range of indexes from {@code first} to {@code last} to {@code ranges}, merging it with the ranges that
+     * it overlaps or is next to.
+     */
+    private static void addRange(NavigableMap<Integer, Integer> ranges, int first, int last) {
+        Map.Entry<Integer, Integer> previousRange = ranges.floorEntry(first);
+        if (previousRange != null && previousRange.getValue() >= first - 1) {
+            first = previousRange.getKey();
+            last = Math.max(last, previousRange.getValue());
+        }
+        Map.Entry<Integer, Integer> nextRange;
+        while ((nextRange = ranges.ceilingEntry(first)) != null && nextRange.getKey() <= last + 1) {
+            last = Math.max(last, nextRange.getValue());
+            ranges.remove(nextRange.getKey());
+        }
+        ranges.put(first, last);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexSelection // instanceof handles nulls
+                && (isAll() ? ((IndexSelection) other).isAll() : ranges.equals(((IndexSelection) other).ranges)));
+    }
+
+    @Override
+    public int hashCode() {
+        return isAll() ? 0 : ranges.hashCode();
+    }
+}
@@ -31,6 +31,18 @@ public class FileUtil {
         return true;
     }
 
+    /**
+     * Returns {@code file} with its extension, if any, replaced by {@code extension}, e.g. {@code data/book.xml}
+     * becomes {@code data/book.bin} for the extension {@code .bin}.
+     * The leading dot of a hidden file name, e.g. {@code .book}, does not start an extension.
+     */
+    public static Path replaceExtension(Path file, String extension) {
+        String fileName = file.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return file.resolveSibling(baseName + extension);
+    }
+
     /**
      * Creates a file if it does not exist along with its missing parent directories.
      * @throws IOException if the file or directory cannot be created.
@@ -12,6 +12,10 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /** The Soundex digit of each letter from A to Z, where 0 stands for a letter that is not coded. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+    private static final int SOUNDEX_LENGTH = 4;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +42,110 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains a word that starts with {@code prefix}.
+     *   Ignores case.
+     *   <br>examples:<pre>
+     *       containsWordWithPrefixIgnoreCase("ABc def", "ab") == true
+     *       containsWordWithPrefixIgnoreCase("ABc def", "DEF") == true
+     *       containsWordWithPrefixIgnoreCase("ABc def", "bc") == false //not at the start of a word
+     *       </pre>
+     * @param sentence cannot be null
+     * @param prefix cannot be null, cannot be empty, must be a single word
+     */
+    public static boolean containsWordWithPrefixIgnoreCase(String sentence, String prefix) {
+        requireNonNull(sentence);
+        requireNonNull(prefix);
+
+        String preppedPrefix = prefix.trim();
+        checkArgument(!preppedPrefix.isEmpty(), "Prefix parameter cannot be empty");
+        checkArgument(preppedPrefix.split("\\s+").length == 1, "Prefix parameter should be a single word");
+
+        String[] wordsInPreppedSentence = sentence.split("\\s+");
+
+        return Arrays.stream(wordsInPreppedSentence)
+                .anyMatch(word -> word.regionMatches(true, 0, preppedPrefix, 0, preppedPrefix.length()));
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, that is, the least number of
+     * single character insertions, deletions and substitutions that change one into the other.
+     *   Case sensitive.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alice") == 0
+     *       getEditDistance("alice", "alcie") == 2 //two substitutions
+     *       getEditDistance("alice", "alicia") == 2 //one substitution and one insertion
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // distances[j] is the distance between the prefix of first seen so far and the first j characters of second
+        int[] distances = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            distances[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int diagonal = distances[0];
+            distances[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int above = distances[j];
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                distances[j] = Math.min(diagonal + substitutionCost, Math.min(above, distances[j - 1]) + 1);
+                diagonal = above;
+            }
+        }
+        return distances[second.length()];
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}, that is, its first letter followed by three digits that
+     * encode the sounds of the consonants after it, so that words that sound alike, such as differently spelt names,
+     * have the same code. Characters that are not English letters are ignored.
+     *   Ignores case.
+     *   <br>examples:<pre>
+     *       getSoundex("Robert") == "R163"
+     *       getSoundex("rupert") == "R163"
+     *       getSoundex("Lee") == "L000" //padded with zeros
+     *       getSoundex("123") == "" //no letters
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String getSoundex(String word) {
+        requireNonNull(word);
+
+        StringBuilder letters = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char letter = Character.toUpperCase(word.charAt(i));
+            if (letter >= 'A' && letter <= 'Z') {
+                letters.append(letter);
+            }
+        }
+        if (letters.length() == 0) {
+            return "";
+        }
+        StringBuilder code = new StringBuilder().append(letters.charAt(0));
+        char lastDigit = SOUNDEX_DIGITS.charAt(letters.charAt(0) - 'A');
+        for (int i = 1; i < letters.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (digit != '0' && digit != lastDigit) {
+                code.append(digit);
+            }
+            // consonants separated only by an H or W are coded once, but those separated by a vowel are coded twice
+            if (letter != 'H' && letter != 'W') {
+                lastDigit = digit;
+            }
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.person.DuplicateCandidate;
+import seedu.address.model.person.DuplicateCandidatesPredicate;
+import seedu.address.model.person.DuplicateFinder;
+
+/**
+ * Finds the pairs of persons in the address book who are likely to be the same person, and lists them so that they
+ * can be merged with the {@code edit} and {@code delete} commands.
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d pairs of persons who are likely to be the same person, "
+            + "and listed them, closest matches first. Merge a pair by editing one person and deleting the other.";
+    public static final String MESSAGE_CANDIDATE = "\n%1$s and %2$s: %3$s";
+    public static final String MESSAGE_MORE_CANDIDATES = "\n...and %1$d more pairs";
+    public static final String MESSAGE_NO_DUPLICATES = "No persons are likely to be the same person";
+
+    /** The largest number of pairs of persons described in the result. */
+    public static final int MAX_DESCRIBED_CANDIDATES = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(DedupeCommand.class);
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<DuplicateCandidate> candidates = new DuplicateFinder().findDuplicates(
+                model.getAddressBook().getPersonList());
+        logger.info("Found " + candidates.size() + " pairs of likely duplicate persons");
+        if (candidates.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        model.updateFilteredPersonList(new DuplicateCandidatesPredicate(candidates));
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, candidates.size()));
+        candidates.stream().limit(MAX_DESCRIBED_CANDIDATES).forEach(candidate ->
+                result.append(String.format(MESSAGE_CANDIDATE, candidate.getFirst().getName(),
+                        candidate.getSecond().getName(), candidate.getReasons().stream().map(Object::toString)
+                                .collect(Collectors.joining(", ")))));
+        if (candidates.size() > MAX_DESCRIBED_CANDIDATES) {
+            result.append(String.format(MESSAGE_MORE_CANDIDATES, candidates.size() - MAX_DESCRIBED_CANDIDATES));
+        }
+        return new CommandResult(result.toString());
+    }
+}
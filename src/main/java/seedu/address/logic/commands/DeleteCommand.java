@@ -3,32 +3,42 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes the persons identified using their displayed indexes from the address book.
+ * Several persons are deleted together, so that they are undone together and the address book is saved only once.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the persons identified by the index numbers used in the displayed person list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, or "
+            + ParserUtil.KEYWORD_ALL_INDEXES + " for every person in the list)\n"
+            + "Example: " + COMMAND_WORD + " 1, 4-6";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons";
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndexes;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexSelection.of(targetIndex));
+    }
+
+    public DeleteCommand(IndexSelection targetIndexes) {
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -36,20 +46,31 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_DISPLAYED);
+        }
+
+        List<Person> personsToDelete = targetIndexes.getZeroBased(lastShownList.size())
+                .mapToObj(lastShownList::get)
+                .collect(Collectors.toList());
+        if (personsToDelete.size() == 1) {
+            model.deletePerson(personsToDelete.get(0));
+            model.commitAddressBook();
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personsToDelete.get(0)));
+        }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePerson(personToDelete);
+        model.deletePersons(personsToDelete);
         model.commitAddressBook();
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && targetIndexes.equals(((DeleteCommand) other).targetIndexes)); // state check
     }
 }
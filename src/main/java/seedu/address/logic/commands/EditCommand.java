@@ -1,24 +1,28 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -43,15 +47,22 @@ public class EditCommand extends Command {
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_ADDRESS + "ADDRESS] "
             + "[" + PREFIX_TAG + "TAG]...\n"
+            + "The tags of several persons can be edited at once by giving their indexes and ranges of them, separated "
+            + "by commas, or " + ParserUtil.KEYWORD_ALL_INDEXES + " for every person in the list, instead of INDEX.\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
-            + PREFIX_EMAIL + "johndoe@example.com";
+            + PREFIX_EMAIL + "johndoe@example.com\n"
+            + "Example: " + COMMAND_WORD + " 1-3, 5 "
+            + PREFIX_TAG + "colleagues";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %1$s";
+    public static final String MESSAGE_EDIT_PERSONS_SUCCESS = "Edited %1$d persons";
+    public static final String MESSAGE_ONLY_TAGS_EDITED_TOGETHER = "Only tags can be edited for several persons at "
+            + "once.";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
 
-    private final Index index;
+    private final IndexSelection indexes;
     private final EditPersonDescriptor editPersonDescriptor;
 
     /**
@@ -59,10 +70,21 @@ public class EditCommand extends Command {
      * @param editPersonDescriptor details to edit the person with
      */
     public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
-        requireNonNull(index);
+        this(IndexSelection.of(requireNonNull(index)), editPersonDescriptor);
+    }
+
+    /**
+     * @param indexes of the persons in the filtered person list to edit
+     * @param editPersonDescriptor details to edit the persons with, which must only edit tags unless
+     *     {@code indexes} is of a single person
+     */
+    public EditCommand(IndexSelection indexes, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(indexes);
         requireNonNull(editPersonDescriptor);
+        checkArgument(indexes.isSingle() || editPersonDescriptor.isOnlyTagsEdited(),
+                MESSAGE_ONLY_TAGS_EDITED_TOGETHER);
 
-        this.index = index;
+        this.indexes = indexes;
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
@@ -71,26 +93,39 @@ public class EditCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (!indexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_DISPLAYED);
+        }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+        List<Person> personsToEdit = indexes.getZeroBased(lastShownList.size())
+                .mapToObj(lastShownList::get)
+                .collect(Collectors.toList());
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person personToEdit : personsToEdit) {
+            Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+            if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
+                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+            }
+            editedPersons.add(editedPerson);
+        }
 
-        if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        if (personsToEdit.size() == 1) {
+            model.updatePerson(personsToEdit.get(0), editedPersons.get(0));
+            model.commitAddressBook();
+            return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPersons.get(0)));
         }
 
-        model.updatePerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updatePersons(personsToEdit, editedPersons);
         model.commitAddressBook();
-        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSONS_SUCCESS, personsToEdit.size()));
     }
 
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
-     * edited with {@code editPersonDescriptor}.
+     * edited with {@code editPersonDescriptor}, and the same ID.
      */
     private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
@@ -101,7 +136,8 @@ public class EditCommand extends Command {
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedTags);
     }
 
     @Override
@@ -118,7 +154,7 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return indexes.equals(e.indexes)
                 && editPersonDescriptor.equals(e.editPersonDescriptor);
     }
 
@@ -154,6 +190,13 @@ public class EditCommand extends Command {
             return CollectionUtil.isAnyNonNull(name, phone, email, address, tags);
         }
 
+        /**
+         * Returns true if the tags are edited, and no other field is.
+         */
+        public boolean isOnlyTagsEdited() {
+            return tags != null && !CollectionUtil.isAnyNonNull(name, phone, email, address);
+        }
+
         public void setName(Name name) {
             this.name = name;
         }
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ContactFormat;
+import seedu.address.storage.ContactWriter;
+
+/**
+ * Exports the persons in the last shown list to a contacts file.
+ * Each person is written to the file as soon as it is reached in the list, so no copy of the list, or of the file,
+ * is held in memory.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the persons in the last shown list to a CSV, "
+            + "vCard or JSON file. An existing file is replaced.\n"
+            + "Parameters: FILE_PATH (ending in .csv, .vcf, .vcard or .json)\n"
+            + "Example: " + COMMAND_WORD + " friends.vcf";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Path filePath;
+    private final ContactFormat format;
+
+    /**
+     * Creates an ExportCommand to export the persons in the last shown list to the file at {@code filePath}, in
+     * {@code format}.
+     */
+    public ExportCommand(Path filePath, ContactFormat format) {
+        requireAllNonNull(filePath, format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        int exportedCount = 0;
+        try (ContactWriter writer = format.openWriter(filePath)) {
+            for (Person person : model.getFilteredPersonList()) {
+                writer.write(person);
+                exportedCount++;
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+
+        logger.info("Exported " + exportedCount + " persons to " + filePath);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, exportedCount, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format == ((ExportCommand) other).format);
+    }
+}
@@ -2,14 +2,27 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.function.Predicate;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
+import seedu.address.model.person.EmailMatchesPredicate;
+import seedu.address.model.person.HasTagsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or who match all of
+ * the argument fields.
+ * Keyword matching is case insensitive, keywords ending with {@code *} match words starting with them, and keywords
+ * ending with {@code ~} match words that are a few typos away from them, closest matches first.
  */
 public class FindCommand extends Command {
 
@@ -17,12 +30,32 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "A keyword ending with " + NameContainsKeywordsPredicate.PREFIX_WILDCARD + " matches all words "
+            + "starting with it, and a keyword ending with " + NameContainsKeywordsPredicate.FUZZY_SUFFIX
+            + " also matches misspellings of it, listing the closest matches first.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Alternatively, finds all persons who match all of the fields given: the name contains any of the "
+            + "keywords, the phone or email is any of those given, with " + EmailMatchesPredicate.DOMAIN_PREFIX
+            + "DOMAIN matching all emails with that domain, the address contains all of the keywords, and each "
+            + "tag query is met: TAG requires the tag, TAG" + HasTagsPredicate.GROUP_SEPARATOR + "TAG requires any "
+            + "of them, and " + HasTagsPredicate.EXCLUDED_PREFIX + "TAG excludes the tag.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "KEYWORD]... "
+            + "[" + PREFIX_PHONE + "PHONE]... "
+            + "[" + PREFIX_EMAIL + "EMAIL]... "
+            + "[" + PREFIX_ADDRESS + "KEYWORD]... "
+            + "[" + PREFIX_TAG + "TAG_QUERY]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " ali" + NameContainsKeywordsPredicate.PREFIX_WILDCARD + "\n"
+            + "Example: " + COMMAND_WORD + " alcie" + NameContainsKeywordsPredicate.FUZZY_SUFFIX + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice " + PREFIX_TAG + "friends " + PREFIX_EMAIL
+            + EmailMatchesPredicate.DOMAIN_PREFIX + "example.com\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "colleagues" + HasTagsPredicate.GROUP_SEPARATOR
+            + "friends " + PREFIX_TAG + HasTagsPredicate.EXCLUDED_PREFIX + "family";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
     }
 
@@ -0,0 +1,200 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.ContactFormat;
+import seedu.address.storage.ContactReader;
+import seedu.address.storage.ContactRecord;
+
+/**
+ * Imports the persons in a contacts file into the address book.
+ * The file is read one contact at a time, and the valid persons in it are added to the address book in batches of
+ * {@code batchSize} persons, so that only one batch has to be held in memory apart from the address book itself.
+ * All batches are added in a single transaction, so the import is undone, and the address book saved, as a whole.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the persons in a CSV, vCard or JSON file "
+            + "into the address book. Persons who are already in the address book, or who appear earlier in the file, "
+            + "are skipped, as are entries with invalid fields.\n"
+            + "Parameters: FILE_PATH (ending in .csv, .vcf, .vcard or .json)\n"
+            + "Example: " + COMMAND_WORD + " contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s. "
+            + "Skipped %3$d duplicate and %4$d invalid entries.";
+    public static final String MESSAGE_FIRST_INVALID_ENTRY = "\nFirst invalid entry, at line %1$d: %2$s";
+    public static final String MESSAGE_PROGRESS = "Importing from %1$s: %2$d entries read, %3$d persons imported...";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s, no persons were imported: %2$s";
+    public static final String MESSAGE_MISSING_FIELD = "The %1$s is missing";
+
+    /** The default number of persons added to the address book at a time. */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+    private final ContactFormat format;
+    private final int batchSize;
+
+    /**
+     * Creates an ImportCommand to import the persons in the file at {@code filePath}, which is in {@code format}.
+     */
+    public ImportCommand(Path filePath, ContactFormat format) {
+        this(filePath, format, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an ImportCommand that adds {@code batchSize} persons to the address book at a time.
+     */
+    ImportCommand(Path filePath, ContactFormat format, int batchSize) {
+        requireAllNonNull(filePath, format);
+        checkArgument(batchSize > 0, "Batch size should be positive");
+        this.filePath = filePath;
+        this.format = format;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        ImportSummary summary = new ImportSummary();
+        try (ContactReader reader = format.openReader(filePath)) {
+            model.runTransaction(() -> importPersons(reader, model, summary));
+        } catch (NoSuchFileException nsfe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+
+        String result = String.format(MESSAGE_SUCCESS, summary.importedCount, filePath, summary.duplicateCount,
+                summary.invalidCount);
+        if (summary.invalidCount > 0) {
+            result += String.format(MESSAGE_FIRST_INVALID_ENTRY, summary.firstInvalidLineNumber,
+                    summary.firstInvalidMessage);
+        }
+        return new CommandResult(result);
+    }
+
+    /**
+     * Reads the contacts from {@code reader}, and adds the valid persons among them that are not already in
+     * {@code model} to it in batches, keeping count of them in {@code summary}.
+     */
+    private void importPersons(ContactReader reader, Model model, ImportSummary summary) throws IOException {
+        AddressBook batch = new AddressBook();
+        Optional<ContactRecord> record;
+        while ((record = reader.read()).isPresent()) {
+            summary.readCount++;
+            Person person;
+            try {
+                person = parsePerson(record.get());
+            } catch (ParseException pe) {
+                summary.recordInvalidEntry(record.get().getLineNumber(), pe.getMessage());
+                continue;
+            }
+
+            if (model.hasPerson(person) || batch.hasPerson(person)) {
+                summary.duplicateCount++;
+                continue;
+            }
+            batch.addPerson(person);
+            if (batch.getPersonList().size() == batchSize) {
+                addBatch(batch, model, summary);
+                batch = new AddressBook();
+            }
+        }
+        addBatch(batch, model, summary);
+    }
+
+    /**
+     * Adds the persons in {@code batch} to {@code model}, and logs the progress of the import.
+     * The progress is not shown in the result display, as the command runs on the UI thread, which cannot repaint the
+     * display until the command has finished.
+     */
+    private void addBatch(AddressBook batch, Model model, ImportSummary summary) {
+        if (batch.getPersonList().isEmpty()) {
+            return;
+        }
+        model.addPersons(new ArrayList<>(batch.getPersonList()));
+        summary.importedCount += batch.getPersonList().size();
+
+        String progress = String.format(MESSAGE_PROGRESS, filePath, summary.readCount, summary.importedCount);
+        logger.info(progress);
+    }
+
+    /**
+     * Returns the person described by {@code record}, whose fields are checked as if they were typed in an {@code add}
+     * command.
+     * @throws ParseException if a field of {@code record} is missing or invalid.
+     */
+    private static Person parsePerson(ContactRecord record) throws ParseException {
+        Name name = ParserUtil.parseName(requireField(record.getName(), "name"));
+        Phone phone = ParserUtil.parsePhone(requireField(record.getPhone(), "phone"));
+        Email email = ParserUtil.parseEmail(requireField(record.getEmail(), "email"));
+        Address address = ParserUtil.parseAddress(requireField(record.getAddress(), "address"));
+        Set<Tag> tags = ParserUtil.parseTags(record.getTags());
+        return new Person(name, phone, email, address, tags);
+    }
+
+    private static String requireField(Optional<String> field, String fieldName) throws ParseException {
+        return field.orElseThrow(() -> new ParseException(String.format(MESSAGE_MISSING_FIELD, fieldName)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)
+                && format == ((ImportCommand) other).format
+                && batchSize == ((ImportCommand) other).batchSize);
+    }
+
+    /**
+     * The number of contacts read and persons imported so far, and the reasons that contacts were skipped.
+     */
+    private static class ImportSummary {
+        private int readCount;
+        private int importedCount;
+        private int duplicateCount;
+        private int invalidCount;
+        private int firstInvalidLineNumber;
+        private String firstInvalidMessage;
+
+        /**
+         * Records that the contact starting at line {@code lineNumber} was skipped as it is invalid.
+         */
+        void recordInvalidEntry(int lineNumber, String message) {
+            if (invalidCount == 0) {
+                firstInvalidLineNumber = lineNumber;
+                firstInvalidMessage = message;
+            }
+            invalidCount++;
+        }
+    }
+}
@@ -1,18 +1,42 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.index.AllOfPredicate;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.EmailMatchesPredicate;
+import seedu.address.model.person.HasTagsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Prefix[] FIELD_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_TAG};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an FindCommand object for execution.
@@ -25,9 +49,125 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs, FIELD_PREFIXES);
+        if (Stream.of(FIELD_PREFIXES).anyMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            return new FindCommand(parseFieldPredicates(argMultimap));
+        }
+
+        return new FindCommand(parseNameKeywords(trimmedArgs));
+    }
+
+    /**
+     * Parses the values of each field prefix in {@code argMultimap} into a predicate that persons must match all of.
+     * @throws ParseException if there is a preamble, or the values of any field prefix are invalid
+     */
+    private static Predicate<Person> parseFieldPredicates(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        List<IndexedPredicate> predicates = new ArrayList<>();
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            predicates.add(parseNameKeywords(String.join(" ", argMultimap.getAllValues(PREFIX_NAME))));
+        }
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            List<Phone> phones = new ArrayList<>();
+            for (String phone : argMultimap.getAllValues(PREFIX_PHONE)) {
+                phones.add(ParserUtil.parsePhone(phone));
+            }
+            predicates.add(new PhoneMatchesPredicate(phones));
+        }
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            List<String> patterns = new ArrayList<>();
+            for (String pattern : argMultimap.getAllValues(PREFIX_EMAIL)) {
+                patterns.add(parseEmailPattern(pattern));
+            }
+            predicates.add(new EmailMatchesPredicate(patterns));
+        }
+        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
+            predicates.add(new AddressContainsKeywordsPredicate(
+                    parseKeywords(String.join(" ", argMultimap.getAllValues(PREFIX_ADDRESS)))));
+        }
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            predicates.add(parseTagQueries(argMultimap.getAllValues(PREFIX_TAG)));
+        }
+
+        return predicates.size() == 1 ? predicates.get(0) : new AllOfPredicate(predicates);
+    }
+
+    /**
+     * Parses {@code tagQueries} into a {@code HasTagsPredicate} that persons must match all of.
+     * A query is either a tag following {@code HasTagsPredicate#EXCLUDED_PREFIX}, which persons must not have, or
+     * one or more tags separated by {@code HasTagsPredicate#GROUP_SEPARATOR}, any of which persons must have.
+     * @throws ParseException if any of the tags is invalid
+     */
+    private static HasTagsPredicate parseTagQueries(List<String> tagQueries) throws ParseException {
+        List<Set<Tag>> tagGroups = new ArrayList<>();
+        Set<Tag> excludedTags = new HashSet<>();
+        for (String tagQuery : tagQueries) {
+            String trimmedQuery = tagQuery.trim();
+            if (trimmedQuery.startsWith(HasTagsPredicate.EXCLUDED_PREFIX)) {
+                excludedTags.add(ParserUtil.parseTag(
+                        trimmedQuery.substring(HasTagsPredicate.EXCLUDED_PREFIX.length())));
+            } else {
+                tagGroups.add(ParserUtil.parseTags(Arrays.asList(
+                        trimmedQuery.split(Pattern.quote(HasTagsPredicate.GROUP_SEPARATOR), -1))));
+            }
+        }
+        return new HasTagsPredicate(tagGroups, excludedTags);
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses {@code keywords} into a {@code NameContainsKeywordsPredicate}.
+     * @throws ParseException if there are no keywords, or a keyword is only the suffix of a prefix or fuzzy keyword
+     */
+    private static NameContainsKeywordsPredicate parseNameKeywords(String keywords) throws ParseException {
+        List<String> nameKeywords = parseKeywords(keywords);
+        if (nameKeywords.stream().anyMatch(FindCommandParser::isSuffixOnly)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new NameContainsKeywordsPredicate(nameKeywords);
+    }
+
+    /**
+     * Returns true if {@code keyword} is only the suffix of a prefix or fuzzy keyword, without any word before it.
+     */
+    private static boolean isSuffixOnly(String keyword) {
+        return keyword.equals(NameContainsKeywordsPredicate.PREFIX_WILDCARD)
+                || keyword.equals(NameContainsKeywordsPredicate.FUZZY_SUFFIX);
+    }
+
+    /**
+     * Splits {@code keywords} into the keywords separated by whitespace in it.
+     * @throws ParseException if there are no keywords
+     */
+    private static List<String> parseKeywords(String keywords) throws ParseException {
+        String trimmedKeywords = keywords.trim();
+        if (trimmedKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Arrays.asList(trimmedKeywords.split("\\s+"));
+    }
+
+    /**
+     * Parses {@code pattern} into a pattern of an {@code EmailMatchesPredicate}, which is either a valid email or a
+     * domain following {@code EmailMatchesPredicate#DOMAIN_PREFIX}.
+     * @throws ParseException if {@code pattern} is neither
+     */
+    private static String parseEmailPattern(String pattern) throws ParseException {
+        String trimmedPattern = pattern.trim();
+        if (!EmailMatchesPredicate.isDomainPattern(trimmedPattern)) {
+            return ParserUtil.parseEmail(trimmedPattern).value;
+        }
+        String domain = trimmedPattern.substring(EmailMatchesPredicate.DOMAIN_PREFIX.length());
+        if (domain.isEmpty() || domain.contains(EmailMatchesPredicate.DOMAIN_PREFIX) || domain.matches(".*\\s.*")) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return trimmedPattern;
     }
 
 }
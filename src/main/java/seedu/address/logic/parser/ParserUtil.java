@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -21,6 +22,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The last index of a range is before its first index.";
+    public static final String KEYWORD_ALL_INDEXES = "all";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -35,6 +38,36 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes} into an {@code IndexSelection} and returns it. Leading and trailing whitespaces
+     * will be trimmed.
+     * {@code oneBasedIndexes} is either {@code KEYWORD_ALL_INDEXES}, or a comma-separated list of indexes and ranges
+     * of indexes, e.g. {@code 1-3, 5}.
+     * @throws ParseException if any of the indexes is invalid, or a range ends before it starts.
+     */
+    public static IndexSelection parseIndexSelection(String oneBasedIndexes) throws ParseException {
+        String trimmedIndexes = oneBasedIndexes.trim();
+        if (trimmedIndexes.equals(KEYWORD_ALL_INDEXES)) {
+            return IndexSelection.all();
+        }
+
+        IndexSelection selection = null;
+        for (String item : trimmedIndexes.split(",", -1)) {
+            String[] bounds = item.split("-", -1);
+            if (bounds.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            Index first = parseIndex(bounds[0]);
+            Index last = bounds.length == 2 ? parseIndex(bounds[1]) : first;
+            if (last.getZeroBased() < first.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            IndexSelection range = IndexSelection.ofRange(first, last);
+            selection = selection == null ? range : selection.union(range);
+        }
+        return selection;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
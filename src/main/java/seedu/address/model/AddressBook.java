@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -47,12 +48,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces the {@code count} persons starting at index {@code from} of the person list with {@code persons}.
+     * The resulting person list must already be known to contain only unique persons, as no uniqueness check is done.
+     */
+    protected void replaceUniquePersons(int from, int count, List<Person> persons) {
+        this.persons.replaceUniquePersons(from, count, persons);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is itself an {@code AddressBook}, its persons are already known to be unique and are copied
+     * over without checking for duplicates.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -74,6 +89,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the address book.
+     * None of the persons may already exist in the address book, and {@code persons} must not contain duplicate
+     * persons.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -85,6 +109,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}.
+     * Each of {@code targets} must exist in the address book, and must appear in {@code targets} only once.
+     * The person identities of {@code editedPersons} must not be the same as each other, or as another existing person
+     * in the address book.
+     */
+    public void updatePersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setPersons(targets, editedPersons);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -93,6 +127,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code AddressBook}.
+     * All of {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     //// util methods
 
     @Override
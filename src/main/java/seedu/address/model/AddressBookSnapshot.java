@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable snapshot of an address book at a point in time.
+ * As it never changes, a snapshot can be read from any thread, e.g. to save or export the address book in the
+ * background, without locking and without being affected by later changes to the address book.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentPersonList persons;
+
+    public AddressBookSnapshot(PersistentPersonList persons) {
+        this.persons = requireNonNull(persons);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the snapshot, which never fires any changes.
+     * Looking up a person by its index takes O(log n) time, but iterating over the persons takes O(1) time per person.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return new PersonListView(persons);
+    }
+
+    /**
+     * Returns the persons in the snapshot, which later snapshots share all unchanged persons with.
+     */
+    public PersistentPersonList getPersons() {
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && persons.equals(((AddressBookSnapshot) other).persons));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons";
+    }
+
+    /**
+     * An {@code ObservableList} view of a {@code PersistentPersonList}, which is unmodifiable as the list it views is
+     * immutable.
+     */
+    private static class PersonListView extends ObservableListBase<Person> {
+        private final PersistentPersonList persons;
+
+        PersonListView(PersistentPersonList persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return persons.iterator();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -12,12 +13,27 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /**
+     * Mutations of the model that are run together by {@link #runTransaction(Transaction)}.
+     */
+    @FunctionalInterface
+    interface Transaction<E extends Exception> {
+        void run() throws E;
+    }
+
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyAddressBook newData);
 
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as of its last change, leaving out the changes of a
+     * transaction that has not ended yet.
+     * Unlike the rest of the model, this may be called from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -29,28 +45,66 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons, with a single notification that the address book has changed.
+     * All of {@code targets} must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * The filter of the filtered person list is kept, so {@code person} is only shown if it matches the filter.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, with a single notification that the address book has changed.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicate
+     * persons.
+     * The filter of the filtered person list is kept, so each of {@code persons} is only shown if it matches the
+     * filter.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The filter of the filtered person list is kept, so {@code editedPerson} is only shown if it matches the filter.
      */
     void updatePerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, with a
+     * single notification that the address book has changed.
+     * Each of {@code targets} must exist in the address book, and must appear in {@code targets} only once.
+     * The person identities of {@code editedPersons} must not be the same as each other, or as another existing person
+     * in the address book.
+     * The filter of the filtered person list is kept, so each of {@code editedPersons} is only shown if it matches the
+     * filter.
+     */
+    void updatePersons(List<Person> targets, List<Person> editedPersons);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * If {@code predicate} is a {@code RankedPredicate}, the filtered person list is ordered by its ranking.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Runs {@code transaction}, whose mutations of the model are saved as a single address book state, with a single
+     * notification that the address book has changed.
+     * If {@code transaction} throws an exception, its mutations are rolled back instead, and the exception is rethrown.
+     * {@code transaction} must not commit, undo or redo the address book. A transaction run within another transaction
+     * becomes part of the outer transaction.
+     */
+    <E extends Exception> void runTransaction(Transaction<E> transaction) throws E;
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -3,26 +3,73 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.index.QueryResultCache;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RankedPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The model is changed and its filtered person list read on the JavaFX application thread only. Other threads read
+ * the address book through the immutable snapshots that the model publishes after each change, which are taken in O(1)
+ * time as the address book keeps its persons in a {@code PersistentPersonList} too.
  */
 public class ModelManager extends ComponentManager implements Model {
+    /** The default number of persons from which the person list is filtered in parallel. */
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 10000;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** The number of predicates whose matching persons are kept in {@code queryResultCache}. */
+    private static final int QUERY_RESULT_CACHE_CAPACITY = 16;
+
     private final VersionedAddressBook versionedAddressBook;
+    private final PersonIndex personIndex;
+    private final QueryResultCache queryResultCache = new QueryResultCache(QUERY_RESULT_CACHE_CAPACITY);
+    private final int parallelFilterThreshold;
     private final FilteredList<Person> filteredPersons;
 
+    /** {@code filteredPersons} in the order of the ranking of {@code activePredicate}, if it ranks persons. */
+    private final SortedList<Person> sortedPersons;
+
+    /** The predicate that {@code filteredPersons} was last updated with. */
+    private Predicate<Person> activePredicate = PREDICATE_SHOW_ALL_PERSONS;
+
+    /**
+     * The persons matching {@code activePredicate}, or null if the filtered person list has not been filtered yet or
+     * shows every person. When not null, {@code filteredPersons} is filtered by membership in this set.
+     */
+    private Set<Person> activeMatches;
+
+    /**
+     * The snapshot of the address book as of its last change outside a transaction, or the end of the last
+     * transaction. It is volatile so that other threads always read the latest snapshot published.
+     */
+    private volatile AddressBookSnapshot publishedSnapshot;
+
+    /** The version of the address book, which is incremented each time the address book changes. */
+    private long version;
+
+    /** True if the address book has changed during the current transaction. */
+    private boolean hasChangedInTransaction;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -32,8 +79,19 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
-        filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getHistoryMode(),
+                userPrefs.getHistoryLimit());
+        publishedSnapshot = versionedAddressBook.getSnapshot();
+        ObservableList<Person> persons = versionedAddressBook.getPersonList();
+        personIndex = new PersonIndex();
+        parallelFilterThreshold = userPrefs.getParallelFilterThreshold();
+        persons.forEach(personIndex::add);
+
+        // The listener has to be added before filteredPersons is created, so that it runs before filteredPersons
+        // filters any changed persons.
+        persons.addListener(this::handlePersonListChange);
+        filteredPersons = new FilteredList<>(persons);
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -51,9 +109,43 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return publishedSnapshot;
+    }
+
+    /**
+     * Raises an event to indicate the model has changed, and moves on to the next version of the address book.
+     * During a transaction, the event is raised when the transaction is committed instead.
+     */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        advanceVersion();
+        if (versionedAddressBook.isInTransaction()) {
+            hasChangedInTransaction = true;
+            return;
+        }
+        publishSnapshot();
+    }
+
+    /**
+     * Publishes a snapshot of the current address book, and raises an event carrying it, so that the handlers of the
+     * event may read it on any thread.
+     */
+    private void publishSnapshot() {
+        publishedSnapshot = versionedAddressBook.getSnapshot();
+        raise(new AddressBookChangedEvent(publishedSnapshot));
+    }
+
+    /**
+     * Moves on to the next version of the address book.
+     * The results of earlier versions in {@code queryResultCache} are invalidated, except for the persons matching
+     * {@code activePredicate}, which have been kept up to date with the change.
+     */
+    private void advanceVersion() {
+        version++;
+        if (activeMatches != null) {
+            queryResultCache.put(activePredicate, version, activeMatches);
+        }
     }
 
     @Override
@@ -68,10 +160,21 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public void deletePersons(List<Person> targets) {
+        versionedAddressBook.removePersons(targets);
+        indicateAddressBookChanged();
+    }
+
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        versionedAddressBook.addPersons(persons);
         indicateAddressBookChanged();
     }
 
@@ -83,6 +186,32 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public void updatePersons(List<Person> targets, List<Person> editedPersons) {
+        versionedAddressBook.updatePersons(targets, editedPersons);
+        indicateAddressBookChanged();
+    }
+
+    /**
+     * Keeps {@code personIndex} and {@code activeMatches} up to date with {@code change}.
+     */
+    private void handlePersonListChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                personIndex.remove(removed);
+                if (activeMatches != null) {
+                    activeMatches.remove(removed);
+                }
+            }
+            for (Person added : change.getAddedSubList()) {
+                personIndex.add(added);
+                if (activeMatches != null && activePredicate.test(added)) {
+                    activeMatches.add(added);
+                }
+            }
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -91,17 +220,91 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The matching persons are taken from {@code queryResultCache} if {@code predicate} was used recently and the
+     * address book has not changed since. Otherwise, if {@code predicate} is an {@code IndexedPredicate}, they are
+     * looked up in {@code personIndex} instead of by testing every person.
+     * If {@code predicate} is a {@code RankedPredicate}, the filtered person list is ordered by its ranking, and
+     * otherwise it is in the same order as the address book.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            // every person matches, so there is no need to build up or cache a set of all the persons
+            activePredicate = predicate;
+            activeMatches = null;
+            filteredPersons.setPredicate(null);
+            sortedPersons.setComparator(null);
+            return;
+        }
+
+        Set<Person> matches = queryResultCache.get(predicate, version).orElse(null);
+        if (matches == null) {
+            matches = findMatches(predicate);
+            queryResultCache.put(predicate, version, matches);
+        }
+        activePredicate = predicate;
+        activeMatches = matches;
+        filteredPersons.setPredicate(matches::contains);
+        sortedPersons.setComparator(predicate instanceof RankedPredicate
+                ? ((RankedPredicate) predicate).getRanking().orElse(null)
+                : null);
+    }
+
+    /**
+     * Returns a new set of the persons in the address book that match {@code predicate}.
+     * If {@code predicate} cannot be looked up in {@code personIndex} and there are at least
+     * {@code parallelFilterThreshold} persons, the persons are split across the common fork/join pool to be tested,
+     * so {@code predicate} must be safe to test from several threads at once.
+     */
+    private Set<Person> findMatches(Predicate<Person> predicate) {
+        if (predicate instanceof IndexedPredicate) {
+            return ((IndexedPredicate) predicate).lookUp(personIndex);
+        }
+        ObservableList<Person> persons = versionedAddressBook.getPersonList();
+        if (persons.size() < parallelFilterThreshold) {
+            return persons.stream().filter(predicate).collect(Collectors.toCollection(HashSet::new));
+        }
+        // an array splits evenly and cheaply into the subtasks of the pool, unlike the observable list
+        Person[] personArray = persons.toArray(new Person[0]);
+        return Arrays.stream(personArray).parallel().filter(predicate).collect(Collectors.toCollection(HashSet::new));
     }
 
     //=========== Undo/Redo =================================================================================
 
+    @Override
+    public <E extends Exception> void runTransaction(Transaction<E> transaction) throws E {
+        requireNonNull(transaction);
+        if (versionedAddressBook.isInTransaction()) {
+            transaction.run();
+            return;
+        }
+
+        versionedAddressBook.beginTransaction();
+        hasChangedInTransaction = false;
+        try {
+            transaction.run();
+        } catch (Exception | Error e) {
+            versionedAddressBook.rollBackTransaction();
+            if (hasChangedInTransaction) {
+                advanceVersion();
+            }
+            throw e;
+        }
+
+        if (!hasChangedInTransaction) {
+            versionedAddressBook.rollBackTransaction();
+            return;
+        }
+        versionedAddressBook.commit();
+        publishSnapshot();
+    }
+
     @Override
     public boolean canUndoAddressBook() {
         return versionedAddressBook.canUndo();
@@ -144,7 +347,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
-                && filteredPersons.equals(other.filteredPersons);
+                && sortedPersons.equals(other.sortedPersons);
     }
 
 }
@@ -5,14 +5,32 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.VersionedAddressBook.HistoryMode;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    /**
+     * The formats that the address book may be saved in.
+     */
+    public enum AddressBookFormat {
+        XML, BINARY, JSON
+    }
+
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String JSON_FILE_EXTENSION = ".json";
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
+    private HistoryMode historyMode = HistoryMode.SNAPSHOT;
+    private int historyLimit = VersionedAddressBook.DEFAULT_HISTORY_LIMIT;
+    private int parallelFilterThreshold = ModelManager.DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private long addressBookSaveDelay = 500;
+    private boolean isAddressBookJournaled = false;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +56,90 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns the path of the data file in the chosen format. A data file in any format but XML is kept beside the
+     * address book file, with the extension of its format, so that choosing another format never overwrites the data
+     * file of the format chosen before.
+     */
+    public Path getAddressBookDataFilePath() {
+        switch (addressBookFormat) {
+        case BINARY:
+            return FileUtil.replaceExtension(addressBookFilePath, BINARY_FILE_EXTENSION);
+        case JSON:
+            return FileUtil.replaceExtension(addressBookFilePath, JSON_FILE_EXTENSION);
+        default:
+            return addressBookFilePath;
+        }
+    }
+
+    public HistoryMode getHistoryMode() {
+        return historyMode;
+    }
+
+    public void setHistoryMode(HistoryMode historyMode) {
+        this.historyMode = historyMode;
+    }
+
+    /**
+     * Returns the maximum number of persons that may be recorded in the undo/redo history when it is kept in
+     * {@link HistoryMode#JOURNAL} mode.
+     */
+    public int getHistoryLimit() {
+        return historyLimit;
+    }
+
+    public void setHistoryLimit(int historyLimit) {
+        this.historyLimit = historyLimit;
+    }
+
+    /**
+     * Returns the number of persons in the address book from which the person list is filtered in parallel, when the
+     * matching persons cannot be looked up in an index.
+     */
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    /**
+     * Returns the longest time, in milliseconds, that a change to the address book may wait to be saved to the data
+     * file, so that the changes made within that time are saved together. If it is 0, each change is saved at once.
+     */
+    public long getAddressBookSaveDelay() {
+        return addressBookSaveDelay;
+    }
+
+    public void setAddressBookSaveDelay(long addressBookSaveDelay) {
+        this.addressBookSaveDelay = addressBookSaveDelay;
+    }
+
+    /**
+     * Returns true if only the changes to the address book are saved, to a journal beside the data file, which is
+     * saved in full only once the journal has grown long.
+     */
+    public boolean isAddressBookJournaled() {
+        return isAddressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean isAddressBookJournaled) {
+        this.isAddressBookJournaled = isAddressBookJournaled;
+    }
+
+    /**
+     * Returns the format of the data file. If the data file of a format other than XML does not exist yet, it is
+     * migrated from the XML data file at the address book file path.
+     */
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +152,19 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && historyMode == o.historyMode
+                && historyLimit == o.historyLimit
+                && parallelFilterThreshold == o.parallelFilterThreshold
+                && addressBookSaveDelay == o.addressBookSaveDelay
+                && isAddressBookJournaled == o.isAddressBookJournaled
+                && addressBookFormat == o.addressBookFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, historyMode, historyLimit, parallelFilterThreshold,
+                addressBookSaveDelay, isAddressBookJournaled, addressBookFormat);
     }
 
     @Override
@@ -63,6 +172,11 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo/redo history : " + historyMode + " (limit " + historyLimit + ")");
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
+        sb.append("\nLocal data save delay : " + addressBookSaveDelay + "ms");
+        sb.append("\nLocal data journaled : " + isAddressBookJournaled);
+        sb.append("\nLocal data format : " + addressBookFormat);
         return sb.toString();
     }
 
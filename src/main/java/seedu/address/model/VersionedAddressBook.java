@@ -1,36 +1,138 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * The history is kept in one of the ways described by {@link HistoryMode}, both of which are kept up to date by
+ * listening to changes to the person list.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private int currentStatePointer;
+    /** The default maximum number of persons that may be recorded in a {@link HistoryMode#JOURNAL} history. */
+    public static final int DEFAULT_HISTORY_LIMIT = 100000;
+
+    /**
+     * The ways in which the history of a {@code VersionedAddressBook} can be kept.
+     */
+    public enum HistoryMode {
+        /**
+         * Saves every state as a {@code PersistentPersonList}, which shares structure with the states before it.
+         * Saving a state costs O(log n) per person changed, and restoring a state only switches to its saved root.
+         */
+        SNAPSHOT,
+
+        /**
+         * Records the changes made between consecutive states, along with their positions, and restores a state by
+         * undoing or redoing those changes. Restoring a state costs O(1) per person changed, and the number of persons
+         * recorded is capped, with the oldest states dropped first once the cap is exceeded.
+         */
+        JOURNAL
+    }
+
+    private final History history;
+
+    /**
+     * The persons in this address book, kept up to date with every change to the person list, so that an immutable
+     * snapshot of the address book can be taken in O(1) time.
+     */
+    private PersistentPersonList currentState;
+
+    private boolean isRestoringState;
+    private boolean isInTransaction;
+
+    /** Held on to so that its listener, which is only weakly referenced by the underlying list, is not dropped. */
+    private final ObservableList<Person> trackedPersonList;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, HistoryMode.SNAPSHOT, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} with {@code initialState} that keeps its history in {@code historyMode}.
+     * {@code historyLimit} is the maximum number of persons that may be recorded in a {@link HistoryMode#JOURNAL}
+     * history, and is ignored otherwise.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, HistoryMode historyMode, int historyLimit) {
         super(initialState);
+        requireNonNull(historyMode);
+
+        currentState = PersistentPersonList.of(getPersonList());
+        history = historyMode == HistoryMode.JOURNAL ? new JournalHistory(historyLimit) : new SnapshotHistory();
+        trackedPersonList = getPersonList();
+        trackedPersonList.addListener(this::trackPersonListChange);
+    }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+    /**
+     * Applies {@code change} to {@code currentState}, and records it in the history unless a state is being restored.
+     */
+    private void trackPersonListChange(ListChangeListener.Change<? extends Person> change) {
+        currentState = applyChange(currentState, change);
+        change.reset();
+        if (!isRestoringState) {
+            history.record(change);
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of the address book, which is not affected by later changes.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return new AddressBookSnapshot(currentState);
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves the current {@code AddressBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        history.commit();
+        isInTransaction = false;
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+    /**
+     * Starts a transaction, whose changes to the address book can be rolled back by {@code rollBackTransaction()}.
+     * The transaction ends with the next {@code commit()} or {@code rollBackTransaction()}.
+     */
+    public void beginTransaction() {
+        if (isInTransaction) {
+            throw new IllegalStateException("A transaction has already begun.");
+        }
+        history.beginTransaction();
+        isInTransaction = true;
+    }
+
+    /**
+     * Returns true if a transaction has begun and has not ended yet.
+     */
+    public boolean isInTransaction() {
+        return isInTransaction;
+    }
+
+    /**
+     * Reverts the changes made to the address book since {@code beginTransaction()}, in O(1) time per person changed,
+     * and ends the transaction.
+     */
+    public void rollBackTransaction() {
+        if (!isInTransaction) {
+            throw new IllegalStateException("No transaction has begun.");
+        }
+        isRestoringState = true;
+        try {
+            history.rollBackTransaction();
+        } finally {
+            isRestoringState = false;
+            isInTransaction = false;
+        }
     }
 
     /**
@@ -40,8 +142,12 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        isRestoringState = true;
+        try {
+            history.undo();
+        } finally {
+            isRestoringState = false;
+        }
     }
 
     /**
@@ -51,22 +157,26 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        isRestoringState = true;
+        try {
+            history.redo();
+        } finally {
+            isRestoringState = false;
+        }
     }
 
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +195,345 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && history.equals(otherVersionedAddressBook.history);
+    }
+
+    /**
+     * The history of the address book.
+     * Changes to the person list made while restoring a state are not recorded.
+     */
+    private interface History {
+        /** Records a change made to the person list since the last commit. */
+        void record(ListChangeListener.Change<? extends Person> change);
+
+        /** Marks the state of the person list to be restored by {@code rollBackTransaction()}. */
+        void beginTransaction();
+
+        /** Reverts the changes made to the person list since {@code beginTransaction()}. */
+        void rollBackTransaction();
+
+        void commit();
+
+        void undo();
+
+        void redo();
+
+        boolean canUndo();
+
+        boolean canRedo();
+    }
+
+    /**
+     * A {@code History} that saves every state as a {@code PersistentPersonList}.
+     *
+     * @see HistoryMode#SNAPSHOT
+     */
+    private class SnapshotHistory implements History {
+        private final List<PersistentPersonList> addressBookStateList = new ArrayList<>();
+        private int currentStatePointer;
+
+        /** The value of {@code currentState} when the transaction began, or null if no transaction has begun. */
+        private PersistentPersonList transactionStartState;
+
+        /** The changes made since the transaction began. */
+        private final List<PersonListChange> transactionChanges = new ArrayList<>();
+
+        SnapshotHistory() {
+            addressBookStateList.add(currentState);
+            currentStatePointer = 0;
+        }
+
+        /**
+         * Records {@code change} to be reverted if the transaction is rolled back, as {@code currentState} is already
+         * kept up to date with it.
+         */
+        @Override
+        public void record(ListChangeListener.Change<? extends Person> change) {
+            if (transactionStartState != null) {
+                transactionChanges.addAll(toPersonListChanges(change));
+            }
+        }
+
+        @Override
+        public void beginTransaction() {
+            transactionStartState = currentState;
+        }
+
+        @Override
+        public void rollBackTransaction() {
+            revert(transactionChanges);
+            currentState = transactionStartState;
+            endTransaction();
+        }
+
+        private void endTransaction() {
+            transactionStartState = null;
+            transactionChanges.clear();
+        }
+
+        @Override
+        public void commit() {
+            removeStatesAfterCurrentPointer();
+            addressBookStateList.add(currentState);
+            currentStatePointer++;
+            endTransaction();
+        }
+
+        private void removeStatesAfterCurrentPointer() {
+            addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        }
+
+        @Override
+        public void undo() {
+            currentStatePointer--;
+            restoreCurrentState();
+        }
+
+        @Override
+        public void redo() {
+            currentStatePointer++;
+            restoreCurrentState();
+        }
+
+        /**
+         * Replaces the persons in this address book with those of the state at the current state pointer, and switches
+         * to its saved root. Only the range of persons that differs between the two states is replaced, and it is
+         * found by skipping the subtrees that they share, so restoring a state costs O(log n) per person changed.
+         */
+        private void restoreCurrentState() {
+            PersistentPersonList state = addressBookStateList.get(currentStatePointer);
+            int from = currentState.getCommonPrefixLength(state);
+            int commonSuffixLength = currentState.getCommonSuffixLength(state,
+                    Math.min(currentState.size(), state.size()) - from);
+            replaceUniquePersons(from, currentState.size() - commonSuffixLength - from,
+                    state.subList(from, state.size() - commonSuffixLength));
+            currentState = state;
+        }
+
+        @Override
+        public boolean canUndo() {
+            return currentStatePointer > 0;
+        }
+
+        @Override
+        public boolean canRedo() {
+            return currentStatePointer < addressBookStateList.size() - 1;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SnapshotHistory // instanceof handles nulls
+                    && addressBookStateList.equals(((SnapshotHistory) other).addressBookStateList)
+                    && currentStatePointer == ((SnapshotHistory) other).currentStatePointer);
+        }
+    }
+
+    /**
+     * A {@code History} that records the changes made between consecutive states.
+     *
+     * @see HistoryMode#JOURNAL
+     */
+    private class JournalHistory implements History {
+        private final int historyLimit;
+
+        /** The changes made between each pair of consecutive states, in the order they were made. */
+        private final List<List<PersonListChange>> journal = new ArrayList<>();
+        private int currentStatePointer;
+
+        /** The changes made since the state at the current state pointer. */
+        private final List<PersonListChange> uncommittedChanges = new ArrayList<>();
+
+        /** The number of persons recorded in {@code journal}. */
+        private int journalSize;
+
+        /** The number of changes in {@code uncommittedChanges} when the transaction began. */
+        private int transactionStart;
+
+        JournalHistory(int historyLimit) {
+            this.historyLimit = historyLimit;
+        }
+
+        @Override
+        public void record(ListChangeListener.Change<? extends Person> change) {
+            uncommittedChanges.addAll(toPersonListChanges(change));
+        }
+
+        @Override
+        public void beginTransaction() {
+            transactionStart = uncommittedChanges.size();
+        }
+
+        @Override
+        public void rollBackTransaction() {
+            List<PersonListChange> transactionChanges = uncommittedChanges.subList(transactionStart,
+                    uncommittedChanges.size());
+            revert(transactionChanges);
+            transactionChanges.clear();
+        }
+
+        @Override
+        public void commit() {
+            removeStatesAfterCurrentPointer();
+            journal.add(new ArrayList<>(uncommittedChanges));
+            journalSize += size(uncommittedChanges);
+            uncommittedChanges.clear();
+            currentStatePointer++;
+
+            while (journalSize > historyLimit && !journal.isEmpty()) {
+                journalSize -= size(journal.remove(0));
+                currentStatePointer--;
+            }
+        }
+
+        private void removeStatesAfterCurrentPointer() {
+            List<List<PersonListChange>> undoneChanges = journal.subList(currentStatePointer, journal.size());
+            undoneChanges.forEach(changes -> journalSize -= size(changes));
+            undoneChanges.clear();
+        }
+
+        @Override
+        public void undo() {
+            revert(uncommittedChanges);
+            uncommittedChanges.clear();
+            currentStatePointer--;
+            revert(journal.get(currentStatePointer));
+        }
+
+        @Override
+        public void redo() {
+            revert(uncommittedChanges);
+            uncommittedChanges.clear();
+            journal.get(currentStatePointer).forEach(PersonListChange::apply);
+            currentStatePointer++;
+        }
+
+        @Override
+        public boolean canUndo() {
+            return currentStatePointer > 0;
+        }
+
+        @Override
+        public boolean canRedo() {
+            return currentStatePointer < journal.size();
+        }
+
+        private int size(List<PersonListChange> changes) {
+            return changes.stream().mapToInt(PersonListChange::size).sum();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof JournalHistory // instanceof handles nulls
+                    && journal.equals(((JournalHistory) other).journal)
+                    && uncommittedChanges.equals(((JournalHistory) other).uncommittedChanges)
+                    && currentStatePointer == ((JournalHistory) other).currentStatePointer);
+        }
+    }
+
+    /**
+     * Returns {@code state} with {@code change} to the person list applied to it, in O(log n) time per person changed.
+     */
+    private static PersistentPersonList applyChange(PersistentPersonList state,
+            ListChangeListener.Change<? extends Person> change) {
+        PersistentPersonList changedState = state;
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() == changedState.size()) {
+                return PersistentPersonList.of(change.getList());
+            }
+
+            int from = change.getFrom();
+            List<? extends Person> added = change.getAddedSubList();
+            int removedSize = change.getRemovedSize();
+            int replacedSize = Math.min(removedSize, added.size());
+            for (int i = 0; i < replacedSize; i++) {
+                changedState = changedState.set(from + i, added.get(i));
+            }
+            for (int i = replacedSize; i < removedSize; i++) {
+                changedState = changedState.remove(from + replacedSize);
+            }
+            for (int i = replacedSize; i < added.size(); i++) {
+                changedState = changedState.add(from + i, added.get(i));
+            }
+        }
+        return changedState;
+    }
+
+    /**
+     * Returns the changes to the person list described by {@code change}.
+     */
+    private List<PersonListChange> toPersonListChanges(ListChangeListener.Change<? extends Person> change) {
+        List<PersonListChange> changes = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // a permutation is recorded as the replacement of the permuted range
+                List<Person> permuted = new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()));
+                List<Person> unpermuted = new ArrayList<>(permuted);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    unpermuted.set(i - change.getFrom(), permuted.get(change.getPermutation(i) - change.getFrom()));
+                }
+                changes.add(new PersonListChange(change.getFrom(), unpermuted, permuted));
+                continue;
+            }
+            changes.add(new PersonListChange(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                    new ArrayList<>(change.getAddedSubList())));
+        }
+        return changes;
+    }
+
+    /**
+     * Reverts {@code changes}, starting from the last change made.
+     */
+    private static void revert(List<PersonListChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert();
+        }
+    }
+
+    /**
+     * A change to the person list, in which the persons in {@code removed} starting at index {@code from} were
+     * replaced by the persons in {@code added}.
+     */
+    private class PersonListChange {
+        private final int from;
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        PersonListChange(int from, List<Person> removed, List<Person> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        void apply() {
+            replaceUniquePersons(from, removed.size(), added);
+        }
+
+        void revert() {
+            replaceUniquePersons(from, added.size(), removed);
+        }
+
+        /**
+         * Returns the number of persons recorded in this change.
+         */
+        int size() {
+            return removed.size() + added.size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonListChange // instanceof handles nulls
+                    && from == ((PersonListChange) other).from
+                    && removed.equals(((PersonListChange) other).removed)
+                    && added.equals(((PersonListChange) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
     }
 
     /**
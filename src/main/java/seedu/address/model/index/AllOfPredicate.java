@@ -0,0 +1,93 @@
+package seedu.address.model.index;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.RankedPredicate;
+
+/**
+ * Tests that a {@code Person} matches all of the {@code IndexedPredicate}s given.
+ *
+ * The matching persons are looked up by a simple query planner. The predicates are ordered by their estimated number
+ * of matches, and the most selective one is looked up first. Each following predicate then narrows down the persons
+ * found so far, either by looking up its own matches and keeping those already found, if it is estimated to have
+ * fewer matches than have been found, or otherwise by testing each person found.
+ */
+public class AllOfPredicate implements IndexedPredicate, RankedPredicate {
+    private final List<IndexedPredicate> predicates;
+
+    public AllOfPredicate(List<IndexedPredicate> predicates) {
+        this.predicates = predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !predicates.isEmpty() && predicates.stream().allMatch(predicate -> predicate.test(person));
+    }
+
+    @Override
+    public Set<Person> lookUp(PersonIndex index) {
+        if (predicates.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Map<IndexedPredicate, Integer> estimates = new IdentityHashMap<>();
+        predicates.forEach(predicate -> estimates.put(predicate, predicate.estimateMatches(index)));
+        List<IndexedPredicate> plan = predicates.stream()
+                .sorted(Comparator.comparingInt(estimates::get))
+                .collect(Collectors.toList());
+
+        Set<Person> matchingPersons = plan.get(0).lookUp(index);
+        for (IndexedPredicate predicate : plan.subList(1, plan.size())) {
+            if (matchingPersons.isEmpty()) {
+                break;
+            }
+            if (estimates.get(predicate) < matchingPersons.size()) {
+                Set<Person> narrowedPersons = predicate.lookUp(index);
+                narrowedPersons.retainAll(matchingPersons);
+                matchingPersons = narrowedPersons;
+            } else {
+                matchingPersons.removeIf(predicate.negate());
+            }
+        }
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return predicates.stream().mapToInt(predicate -> predicate.estimateMatches(index)).min().orElse(0);
+    }
+
+    /**
+     * Returns the ranking of the first of the predicates that ranks persons, if any.
+     */
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        return predicates.stream()
+                .filter(predicate -> predicate instanceof RankedPredicate)
+                .map(predicate -> ((RankedPredicate) predicate).getRanking())
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllOfPredicate // instanceof handles nulls
+                && predicates.equals(((AllOfPredicate) other).predicates)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+}
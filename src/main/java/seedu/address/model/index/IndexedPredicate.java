@@ -0,0 +1,25 @@
+package seedu.address.model.index;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} whose matching persons can be looked up in a {@code PersonIndex}, instead of being found
+ * by testing every person in the address book.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a new set of the persons in {@code index} that match this predicate.
+     */
+    Set<Person> lookUp(PersonIndex index);
+
+    /**
+     * Returns an upper bound on the number of persons in {@code index} that match this predicate.
+     * This should be much cheaper to compute than {@link #lookUp(PersonIndex)}, as it is used to decide the order in
+     * which several predicates are looked up.
+     */
+    int estimateMatches(PersonIndex index);
+}
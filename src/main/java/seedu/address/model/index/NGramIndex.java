@@ -0,0 +1,135 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of words by their n-grams, the substrings of n consecutive characters in each word, used to find the words
+ * within a small edit distance of a given word without comparing it against every word in the index.
+ * Each word is padded with n - 1 {@link #PADDING} characters on both sides before it is split into n-grams, so that
+ * its first and last characters are in as many n-grams as the others.
+ *
+ * A single edit to a word changes at most n of its n-grams, so a word within k edits of another shares all but at
+ * most k * n of its distinct n-grams with it. Only the words that share enough n-grams with the given word have their
+ * edit distance computed.
+ */
+public class NGramIndex {
+
+    private static final char PADDING = '\0';
+
+    private final int n;
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    private final Set<String> words = new HashSet<>();
+
+    /**
+     * Creates an empty index of words by their n-grams.
+     */
+    public NGramIndex(int n) {
+        checkArgument(n > 0, "n should be positive");
+        this.n = n;
+    }
+
+    /**
+     * Adds {@code word} to the index.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (!words.add(word)) {
+            return;
+        }
+        for (String gram : getGrams(word)) {
+            wordsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        if (!words.remove(word)) {
+            return;
+        }
+        for (String gram : getGrams(word)) {
+            Set<String> wordsWithGram = wordsByGram.get(gram);
+            wordsWithGram.remove(word);
+            if (wordsWithGram.isEmpty()) {
+                wordsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the words in the index that are at most {@code maxDistance} edits away from {@code word}, mapped to
+     * their edit distance from {@code word}.
+     */
+    public Map<String, Integer> getWordsWithinDistance(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance should not be negative");
+
+        Set<String> grams = getGrams(word);
+        int minSharedGrams = grams.size() - maxDistance * n;
+        Collection<String> candidates = minSharedGrams > 0
+                ? getWordsSharingGrams(grams, minSharedGrams)
+                : words; // too few n-grams to rule out any word
+
+        Map<String, Integer> wordsWithinDistance = new HashMap<>();
+        for (String candidate : candidates) {
+            if (Math.abs(candidate.length() - word.length()) > maxDistance) {
+                continue;
+            }
+            int distance = StringUtil.getEditDistance(word, candidate);
+            if (distance <= maxDistance) {
+                wordsWithinDistance.put(candidate, distance);
+            }
+        }
+        return wordsWithinDistance;
+    }
+
+    /**
+     * Returns the words in the index that share at least {@code minSharedGrams} of {@code grams}.
+     */
+    private Collection<String> getWordsSharingGrams(Set<String> grams, int minSharedGrams) {
+        Map<String, Integer> sharedGramCounts = new HashMap<>();
+        for (String gram : grams) {
+            for (String wordWithGram : wordsByGram.getOrDefault(gram, Collections.emptySet())) {
+                sharedGramCounts.merge(wordWithGram, 1, Integer::sum);
+            }
+        }
+        sharedGramCounts.values().removeIf(count -> count < minSharedGrams);
+        return sharedGramCounts.keySet();
+    }
+
+    /**
+     * Returns the distinct n-grams of {@code word} after padding it.
+     */
+    private Set<String> getGrams(String word) {
+        StringBuilder padding = new StringBuilder();
+        for (int i = 1; i < n; i++) {
+            padding.append(PADDING);
+        }
+        String paddedWord = padding + word + padding;
+
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= paddedWord.length(); i++) {
+            grams.add(paddedWord.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public int getWordCount() {
+        return words.size();
+    }
+}
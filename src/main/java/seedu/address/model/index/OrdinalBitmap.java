@@ -0,0 +1,464 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative {@code int} ordinals, in the style of Roaring bitmaps.
+ *
+ * The ordinals are split into chunks of 2^16 consecutive ordinals, keyed by their high 16 bits. Each non-empty chunk
+ * keeps the low 16 bits of its ordinals in a container: a sorted array if it has at most {@link #MAX_ARRAY_SIZE}
+ * ordinals, and a bitmap of all 2^16 ordinals otherwise. A sparse chunk thus takes 2 bytes per ordinal, and a dense
+ * chunk 1 bit per ordinal.
+ *
+ * The set operations {@link #and(OrdinalBitmap)}, {@link #or(OrdinalBitmap)} and {@link #andNot(OrdinalBitmap)}
+ * combine the bitmaps a chunk at a time, 64 ordinals at a time where both chunks are bitmaps, and return a new bitmap
+ * without changing either operand. Ordinals can only be added and removed by the index that owns the bitmap.
+ */
+public final class OrdinalBitmap {
+
+    /** The most ordinals kept in an array container, beyond which a bitmap container takes less space. */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_BITS_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int WORDS_PER_BITMAP = (1 << CHUNK_BITS) / Long.SIZE;
+
+    private final TreeMap<Integer, Container> containers = new TreeMap<>();
+
+    /**
+     * Adds {@code ordinal} to this bitmap.
+     */
+    void add(int ordinal) {
+        checkArgument(ordinal >= 0, "Ordinal should not be negative");
+        int key = ordinal >>> CHUNK_BITS;
+        Container container = containers.get(key);
+        if (container == null) {
+            container = new ArrayContainer();
+        }
+        containers.put(key, container.add(ordinal & LOW_BITS_MASK));
+    }
+
+    /**
+     * Removes {@code ordinal} from this bitmap, if it is in it.
+     */
+    void remove(int ordinal) {
+        int key = ordinal >>> CHUNK_BITS;
+        Container container = containers.get(key);
+        if (container == null) {
+            return;
+        }
+        putIfNotEmpty(this, key, container.remove(ordinal & LOW_BITS_MASK));
+    }
+
+    /**
+     * Returns true if {@code ordinal} is in this bitmap.
+     */
+    public boolean contains(int ordinal) {
+        Container container = containers.get(ordinal >>> CHUNK_BITS);
+        return container != null && container.contains(ordinal & LOW_BITS_MASK);
+    }
+
+    /**
+     * Returns the number of ordinals in this bitmap.
+     */
+    public int cardinality() {
+        return containers.values().stream().mapToInt(Container::cardinality).sum();
+    }
+
+    public boolean isEmpty() {
+        return containers.isEmpty();
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals that are in both this bitmap and {@code other}.
+     */
+    public OrdinalBitmap and(OrdinalBitmap other) {
+        requireNonNull(other);
+        if (other.containers.size() < containers.size()) {
+            return other.and(this);
+        }
+        OrdinalBitmap result = new OrdinalBitmap();
+        for (Map.Entry<Integer, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            if (otherContainer != null) {
+                putIfNotEmpty(result, entry.getKey(), andContainers(entry.getValue(), otherContainer));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals that are in this bitmap, {@code other} or both.
+     */
+    public OrdinalBitmap or(OrdinalBitmap other) {
+        requireNonNull(other);
+        OrdinalBitmap result = new OrdinalBitmap();
+        for (Map.Entry<Integer, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            result.containers.put(entry.getKey(), otherContainer == null
+                    ? entry.getValue().copy()
+                    : orContainers(entry.getValue(), otherContainer));
+        }
+        for (Map.Entry<Integer, Container> entry : other.containers.entrySet()) {
+            result.containers.putIfAbsent(entry.getKey(), entry.getValue().copy());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals that are in this bitmap but not in {@code other}.
+     */
+    public OrdinalBitmap andNot(OrdinalBitmap other) {
+        requireNonNull(other);
+        OrdinalBitmap result = new OrdinalBitmap();
+        for (Map.Entry<Integer, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            putIfNotEmpty(result, entry.getKey(), otherContainer == null
+                    ? entry.getValue().copy()
+                    : andNotContainers(entry.getValue(), otherContainer));
+        }
+        return result;
+    }
+
+    /**
+     * Performs {@code action} on each ordinal in this bitmap, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        containers.forEach((key, container) -> {
+            int high = key << CHUNK_BITS;
+            container.forEach(low -> action.accept(high | low));
+        });
+    }
+
+    /**
+     * Returns the ordinals in this bitmap as a new array, in ascending order.
+     */
+    public int[] toArray() {
+        int[] ordinals = new int[cardinality()];
+        int[] size = {0};
+        forEach(ordinal -> ordinals[size[0]++] = ordinal);
+        return ordinals;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrdinalBitmap // instanceof handles nulls
+                && Arrays.equals(toArray(), ((OrdinalBitmap) other).toArray()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    //// container operations
+
+    /**
+     * Puts {@code container} in {@code bitmap} at {@code key} if it is not empty, or removes the container at
+     * {@code key} otherwise.
+     */
+    private static void putIfNotEmpty(OrdinalBitmap bitmap, int key, Container container) {
+        if (container.cardinality() == 0) {
+            bitmap.containers.remove(key);
+        } else {
+            bitmap.containers.put(key, container);
+        }
+    }
+
+    /**
+     * Returns a new container of the low bits that are in both {@code first} and {@code second}.
+     */
+    private static Container andContainers(Container first, Container second) {
+        if (first instanceof ArrayContainer && second instanceof ArrayContainer) {
+            ArrayContainer firstArray = (ArrayContainer) first;
+            ArrayContainer secondArray = (ArrayContainer) second;
+            ArrayContainer result = new ArrayContainer(Math.min(firstArray.size, secondArray.size));
+            int i = 0;
+            int j = 0;
+            while (i < firstArray.size && j < secondArray.size) {
+                int comparison = Character.compare(firstArray.values[i], secondArray.values[j]);
+                if (comparison == 0) {
+                    result.values[result.size++] = firstArray.values[i];
+                }
+                if (comparison <= 0) {
+                    i++;
+                }
+                if (comparison >= 0) {
+                    j++;
+                }
+            }
+            return result;
+        }
+        if (first instanceof ArrayContainer || second instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) (first instanceof ArrayContainer ? first : second);
+            Container bitmap = first instanceof ArrayContainer ? second : first;
+            return filter(array, bitmap, true);
+        }
+        BitmapContainer result = ((BitmapContainer) first).copy();
+        long[] secondWords = ((BitmapContainer) second).words;
+        for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+            result.words[i] &= secondWords[i];
+        }
+        return result.recount();
+    }
+
+    /**
+     * Returns a new container of the low bits that are in {@code first}, {@code second} or both.
+     */
+    private static Container orContainers(Container first, Container second) {
+        if (first instanceof ArrayContainer && second instanceof ArrayContainer
+                && first.cardinality() + second.cardinality() <= MAX_ARRAY_SIZE) {
+            ArrayContainer firstArray = (ArrayContainer) first;
+            ArrayContainer secondArray = (ArrayContainer) second;
+            ArrayContainer result = new ArrayContainer(firstArray.size + secondArray.size);
+            int i = 0;
+            int j = 0;
+            while (i < firstArray.size || j < secondArray.size) {
+                int comparison = i == firstArray.size ? 1
+                        : j == secondArray.size ? -1
+                        : Character.compare(firstArray.values[i], secondArray.values[j]);
+                result.values[result.size++] = comparison <= 0 ? firstArray.values[i] : secondArray.values[j];
+                if (comparison <= 0) {
+                    i++;
+                }
+                if (comparison >= 0) {
+                    j++;
+                }
+            }
+            return result;
+        }
+        BitmapContainer result = first.toBitmap();
+        if (second instanceof BitmapContainer) {
+            long[] secondWords = ((BitmapContainer) second).words;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                result.words[i] |= secondWords[i];
+            }
+        } else {
+            second.forEach(low -> result.words[low >>> 6] |= 1L << low);
+        }
+        return result.recount();
+    }
+
+    /**
+     * Returns a new container of the low bits that are in {@code first} but not in {@code second}.
+     */
+    private static Container andNotContainers(Container first, Container second) {
+        if (first instanceof ArrayContainer) {
+            return filter((ArrayContainer) first, second, false);
+        }
+        BitmapContainer result = ((BitmapContainer) first).copy();
+        if (second instanceof BitmapContainer) {
+            long[] secondWords = ((BitmapContainer) second).words;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                result.words[i] &= ~secondWords[i];
+            }
+        } else {
+            second.forEach(low -> result.words[low >>> 6] &= ~(1L << low));
+        }
+        return result.recount();
+    }
+
+    /**
+     * Returns a new container of the low bits in {@code array} that are in {@code other} if {@code isKept} is true,
+     * or not in {@code other} otherwise.
+     */
+    private static ArrayContainer filter(ArrayContainer array, Container other, boolean isKept) {
+        ArrayContainer result = new ArrayContainer(array.size);
+        for (int i = 0; i < array.size; i++) {
+            if (other.contains(array.values[i]) == isKept) {
+                result.values[result.size++] = array.values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The low 16 bits of the ordinals in a chunk.
+     * Updates may convert the container to another kind, so the container returned by them has to be used in
+     * place of the original.
+     */
+    private abstract static class Container {
+        abstract boolean contains(int low);
+
+        abstract Container add(int low);
+
+        abstract Container remove(int low);
+
+        abstract int cardinality();
+
+        /** Performs {@code action} on each low bits in this container, in ascending order. */
+        abstract void forEach(IntConsumer action);
+
+        abstract Container copy();
+
+        /** Returns a new bitmap container of the low bits in this container. */
+        abstract BitmapContainer toBitmap();
+    }
+
+    /**
+     * A container that keeps its low bits in a sorted array.
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(4);
+        }
+
+        ArrayContainer(int capacity) {
+            values = new char[capacity];
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+        }
+
+        @Override
+        Container add(int low) {
+            int index = Arrays.binarySearch(values, 0, size, (char) low);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                return toBitmap().add(low);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(values.length * 2, 4), MAX_ARRAY_SIZE));
+            }
+            int insertionPoint = -index - 1;
+            System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+            values[insertionPoint] = (char) low;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            int index = Arrays.binarySearch(values, 0, size, (char) low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        void forEach(IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(values[i]);
+            }
+        }
+
+        @Override
+        ArrayContainer copy() {
+            ArrayContainer copy = new ArrayContainer(Math.max(size, 1));
+            System.arraycopy(values, 0, copy.values, 0, size);
+            copy.size = size;
+            return copy;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            forEach(low -> bitmap.words[low >>> 6] |= 1L << low);
+            bitmap.cardinality = size;
+            return bitmap;
+        }
+    }
+
+    /**
+     * A container that keeps its low bits as the set bits of a bitmap of 2^16 bits.
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words = new long[WORDS_PER_BITMAP];
+        private int cardinality;
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(int low) {
+            if (!contains(low)) {
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            if (contains(low)) {
+                words[low >>> 6] &= ~(1L << low);
+                cardinality--;
+            }
+            return cardinality <= MAX_ARRAY_SIZE ? toArrayContainer() : this;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(IntConsumer action) {
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        @Override
+        BitmapContainer copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, WORDS_PER_BITMAP);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return copy();
+        }
+
+        /**
+         * Recounts the bits set in this bitmap after its words were changed directly, and returns this container, or
+         * an array container of its low bits if they are few enough.
+         */
+        Container recount() {
+            cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            return cardinality <= MAX_ARRAY_SIZE ? toArrayContainer() : this;
+        }
+
+        private ArrayContainer toArrayContainer() {
+            ArrayContainer array = new ArrayContainer(Math.max(cardinality, 1));
+            forEach(low -> array.values[array.size++] = (char) low);
+            return array;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the fields of the persons in an address book, so that persons can be looked up by their fields without
+ * testing every person in the address book.
+ * The index has to be kept in sync with the address book, by calling {@link #add(Person)} and
+ * {@link #remove(Person)} as persons are added to and removed from it.
+ */
+public class PersonIndex {
+
+    /** The n in the n-grams that name words are indexed by for {@link #getPersonsWithNameWordNear(String, int)}. */
+    private static final int NAME_WORD_GRAM_LENGTH = 2;
+
+    private static final OrdinalBitmap EMPTY_BITMAP = new OrdinalBitmap();
+
+    private final TokenIndex nameWords = new TokenIndex();
+
+    /** The distinct words in {@code nameWords}, indexed by their n-grams. */
+    private final NGramIndex nameWordGrams = new NGramIndex(NAME_WORD_GRAM_LENGTH);
+
+    private final TokenIndex phones = new TokenIndex();
+    private final TokenIndex emails = new TokenIndex();
+    private final TokenIndex emailDomains = new TokenIndex();
+    private final TokenIndex addressWords = new TokenIndex();
+
+    /**
+     * The ordinal of each person, which is its position in {@code personsByOrdinal}.
+     * The ordinals of removed persons are reused, so that the ordinals stay dense for the bitmaps that hold them.
+     */
+    private final Map<Person, Integer> ordinals = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final OrdinalBitmap allOrdinals = new OrdinalBitmap();
+    private final Map<String, OrdinalBitmap> tagBitmaps = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        List<String> words = getNameWords(person);
+        nameWords.add(person, words);
+        words.forEach(nameWordGrams::add);
+
+        phones.add(person, Collections.singleton(person.getPhone().value));
+        emails.add(person, Collections.singleton(toIndexedWord(person.getEmail().value)));
+        emailDomains.add(person, Collections.singleton(getEmailDomain(person)));
+        addressWords.add(person, getAddressWords(person.getAddress().value));
+
+        int ordinal = assignOrdinal(person);
+        allOrdinals.add(ordinal);
+        for (Tag tag : person.getTags()) {
+            tagBitmaps.computeIfAbsent(tag.tagName, unused -> new OrdinalBitmap()).add(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        List<String> words = getNameWords(person);
+        nameWords.remove(person, words);
+        for (String word : words) {
+            if (nameWords.getPersons(word).isEmpty()) {
+                nameWordGrams.remove(word);
+            }
+        }
+
+        phones.remove(person, Collections.singleton(person.getPhone().value));
+        emails.remove(person, Collections.singleton(toIndexedWord(person.getEmail().value)));
+        emailDomains.remove(person, Collections.singleton(getEmailDomain(person)));
+        addressWords.remove(person, getAddressWords(person.getAddress().value));
+
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        allOrdinals.remove(ordinal);
+        for (Tag tag : person.getTags()) {
+            OrdinalBitmap tagBitmap = tagBitmaps.get(tag.tagName);
+            tagBitmap.remove(ordinal);
+            if (tagBitmap.isEmpty()) {
+                tagBitmaps.remove(tag.tagName);
+            }
+        }
+    }
+
+    /**
+     * Assigns an ordinal to {@code person}, reusing the most recently freed one if any, and returns it.
+     */
+    private int assignOrdinal(Person person) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int getPersonCount() {
+        return ordinals.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose name contains {@code word}, ignoring case.
+     * A full word match is required.
+     */
+    public Set<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return nameWords.getPersons(toIndexedWord(word));
+    }
+
+    /**
+     * Returns a new set of the persons whose name contains a word starting with {@code prefix}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameWordPrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<Person> persons = new HashSet<>();
+        for (String word : nameWords.getTokensWithPrefix(toIndexedWord(prefix))) {
+            persons.addAll(nameWords.getPersons(word));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons whose name contains a word at most {@code maxDistance} edits away from {@code word},
+     * ignoring case, mapped to the least number of edits between {@code word} and a word in their name.
+     */
+    public Map<Person, Integer> getPersonsWithNameWordNear(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<Person, Integer> distances = new HashMap<>();
+        nameWordGrams.getWordsWithinDistance(toIndexedWord(word), maxDistance).forEach((nearWord, distance) -> {
+            for (Person person : nameWords.getPersons(nearWord)) {
+                distances.merge(person, distance, Math::min);
+            }
+        });
+        return distances;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose phone number is {@code phone}.
+     */
+    public Set<Person> getPersonsWithPhone(String phone) {
+        requireNonNull(phone);
+        return phones.getPersons(phone);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose email is {@code email}, ignoring case.
+     */
+    public Set<Person> getPersonsWithEmail(String email) {
+        requireNonNull(email);
+        return emails.getPersons(toIndexedWord(email));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose email has the domain {@code domain}, ignoring case.
+     * The domain of an email is the part after its {@code @}.
+     */
+    public Set<Person> getPersonsWithEmailDomain(String domain) {
+        requireNonNull(domain);
+        return emailDomains.getPersons(toIndexedWord(domain));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose address contains {@code word}, ignoring case.
+     * A full word match is required, where the words of an address are as given by {@link #getAddressWords(String)}.
+     */
+    public Set<Person> getPersonsWithAddressWord(String word) {
+        requireNonNull(word);
+        return addressWords.getPersons(toIndexedWord(word));
+    }
+
+    /**
+     * Returns a new set of the persons who have a tag named {@code tagName}.
+     */
+    public Set<Person> getPersonsWithTag(String tagName) {
+        return getPersons(getTagBitmap(tagName));
+    }
+
+    /**
+     * Returns a bitmap of the ordinals of the persons who have a tag named {@code tagName}.
+     * The bitmap belongs to the index, and changes as persons are added to and removed from it.
+     */
+    public OrdinalBitmap getTagBitmap(String tagName) {
+        requireNonNull(tagName);
+        return tagBitmaps.getOrDefault(tagName, EMPTY_BITMAP);
+    }
+
+    /**
+     * Returns a bitmap of the ordinals of all persons in the index.
+     * The bitmap belongs to the index, and changes as persons are added to and removed from it.
+     */
+    public OrdinalBitmap getAllPersonsBitmap() {
+        return allOrdinals;
+    }
+
+    /**
+     * Returns a new set of the persons whose ordinals are in {@code bitmap}.
+     */
+    public Set<Person> getPersons(OrdinalBitmap bitmap) {
+        requireNonNull(bitmap);
+        Set<Person> persons = new HashSet<>(bitmap.cardinality() * 4 / 3 + 1);
+        bitmap.forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+
+    /**
+     * Returns the distinct words in {@code address}, in the form they are indexed in.
+     * The words of an address are its runs of letters and digits, so that punctuation such as the commas and
+     * {@code #} in {@code 123, Clementi Ave 3, #01-01} does not have to be typed to find it.
+     */
+    public static Set<String> getAddressWords(String address) {
+        return Arrays.stream(address.split("[^\\p{IsAlphabetic}\\p{IsDigit}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(PersonIndex::toIndexedWord)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the domain of the email of {@code person}, in the form it is indexed in.
+     */
+    private static String getEmailDomain(Person person) {
+        String email = person.getEmail().value;
+        return toIndexedWord(email.substring(email.indexOf('@') + 1));
+    }
+
+    /**
+     * Returns the words in the name of {@code person}, in the form they are indexed in.
+     */
+    private static List<String> getNameWords(Person person) {
+        return Arrays.stream(person.getName().fullName.split("\\s+"))
+                .map(PersonIndex::toIndexedWord)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static String toIndexedWord(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A cache of the persons matching the most recently used predicates, so that switching back to a recent query does
+ * not have to find its matching persons again.
+ * Predicates are looked up by equality, so they should implement {@code equals} and {@code hashCode}.
+ *
+ * Each result is stored with the version of the address book that it was found in, and is only returned for that
+ * version. Results found in an earlier version of the address book are dropped when they are looked up.
+ */
+public class QueryResultCache {
+
+    private final Map<Predicate<Person>, Result> results;
+
+    /**
+     * Creates a cache that holds the results of at most {@code capacity} predicates, evicting the result of the least
+     * recently used predicate when it is full.
+     */
+    public QueryResultCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity should be positive");
+        results = new LinkedHashMap<Predicate<Person>, Result>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Result> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} in the given {@code version} of the address book, if they are
+     * in the cache.
+     * The returned set belongs to the cache, and must not be modified while the address book is at {@code version}.
+     */
+    public Optional<Set<Person>> get(Predicate<Person> predicate, long version) {
+        requireNonNull(predicate);
+        Result result = results.get(predicate);
+        if (result == null) {
+            return Optional.empty();
+        }
+        if (result.version != version) {
+            results.remove(predicate);
+            return Optional.empty();
+        }
+        return Optional.of(result.matches);
+    }
+
+    /**
+     * Caches {@code matches} as the persons matching {@code predicate} in the given {@code version} of the address
+     * book.
+     */
+    public void put(Predicate<Person> predicate, long version, Set<Person> matches) {
+        requireAllNonNull(predicate, matches);
+        results.put(predicate, new Result(version, matches));
+    }
+
+    /**
+     * Returns the number of predicates whose results are in the cache, including results of earlier versions of the
+     * address book that have not been dropped yet.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * The persons matching a predicate in a version of the address book.
+     */
+    private static class Result {
+        private final long version;
+        private final Set<Person> matches;
+
+        Result(long version, Set<Person> matches) {
+            this.version = version;
+            this.matches = matches;
+        }
+    }
+}
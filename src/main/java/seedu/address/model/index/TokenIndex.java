@@ -0,0 +1,86 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from tokens to the persons that have them.
+ * The set of persons that have a token is known as its posting list.
+ *
+ * The tokens are also kept in sorted order, so that the tokens starting with a given prefix, which are next to each
+ * other in that order, can be found in O(log n) time for n distinct tokens.
+ */
+public class TokenIndex {
+
+    private final Map<String, Set<Person>> postingLists = new HashMap<>();
+    private final NavigableSet<String> sortedTokens = new TreeSet<>();
+
+    /**
+     * Adds {@code person} to the posting list of each of {@code tokens}.
+     */
+    public void add(Person person, Collection<String> tokens) {
+        requireAllNonNull(person, tokens);
+        for (String token : tokens) {
+            postingLists.computeIfAbsent(token, this::createPostingList).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of each of {@code tokens}.
+     * Tokens whose posting lists become empty are dropped from the index.
+     */
+    public void remove(Person person, Collection<String> tokens) {
+        requireAllNonNull(person, tokens);
+        for (String token : tokens) {
+            Set<Person> postingList = postingLists.get(token);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(person);
+            if (postingList.isEmpty()) {
+                postingLists.remove(token);
+                sortedTokens.remove(token);
+            }
+        }
+    }
+
+    private Set<Person> createPostingList(String token) {
+        sortedTokens.add(token);
+        return new HashSet<>();
+    }
+
+    /**
+     * Returns an unmodifiable view of the posting list of {@code token}.
+     */
+    public Set<Person> getPersons(String token) {
+        return Collections.unmodifiableSet(postingLists.getOrDefault(token, Collections.emptySet()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the tokens in the index that start with {@code prefix}, in sorted order.
+     */
+    public SortedSet<String> getTokensWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        return Collections.unmodifiableSortedSet(
+                sortedTokens.subSet(prefix, true, prefix + Character.MAX_VALUE, false));
+    }
+
+    /**
+     * Returns the number of distinct tokens in the index.
+     */
+    public int getTokenCount() {
+        return postingLists.size();
+    }
+}
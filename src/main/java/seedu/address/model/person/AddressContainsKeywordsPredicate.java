@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Address} contains all of the keywords given, ignoring case.
+ * The words of an address are as given by {@link PersonIndex#getAddressWords(String)}.
+ * The matching persons are looked up as the intersection of the posting lists of the keywords in a
+ * {@code PersonIndex}, starting from the shortest.
+ */
+public class AddressContainsKeywordsPredicate implements IndexedPredicate {
+    private final List<String> keywords;
+
+    public AddressContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<String> indexedKeywords = getIndexedKeywords();
+        return !indexedKeywords.isEmpty()
+                && PersonIndex.getAddressWords(person.getAddress().value).containsAll(indexedKeywords);
+    }
+
+    @Override
+    public Set<Person> lookUp(PersonIndex index) {
+        List<Set<Person>> postingLists = getIndexedKeywords().stream()
+                .map(index::getPersonsWithAddressWord)
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        if (postingLists.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<Person> matchingPersons = new HashSet<>(postingLists.get(0));
+        postingLists.subList(1, postingLists.size()).forEach(matchingPersons::retainAll);
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return getIndexedKeywords().stream()
+                .mapToInt(keyword -> index.getPersonsWithAddressWord(keyword).size())
+                .min()
+                .orElse(0);
+    }
+
+    /**
+     * Returns the words in the keywords, in the form they are indexed in.
+     */
+    private Set<String> getIndexedKeywords() {
+        return PersonIndex.getAddressWords(String.join(" ", keywords));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((AddressContainsKeywordsPredicate) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+}
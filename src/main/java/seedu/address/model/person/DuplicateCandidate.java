@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Two persons in the address book who are likely to be the same person, such as one entered twice under different
+ * spellings of the name.
+ * Guarantees: immutable.
+ */
+public class DuplicateCandidate {
+
+    /**
+     * A reason that two persons are likely to be the same person.
+     */
+    public enum Reason {
+        SIMILAR_NAMES("similar names"),
+        SAME_PHONE("same phone"),
+        SAME_EMAIL("same email"),
+        SAME_ADDRESS("same address");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final Person first;
+    private final Person second;
+    private final double score;
+    private final Set<Reason> reasons;
+
+    /**
+     * Every field must be present and not null.
+     * @param score how alike the two persons are, from 0 to 1.
+     */
+    public DuplicateCandidate(Person first, Person second, double score, Set<Reason> reasons) {
+        requireAllNonNull(first, second, reasons);
+        this.first = first;
+        this.second = second;
+        this.score = score;
+        this.reasons = reasons.isEmpty() ? EnumSet.noneOf(Reason.class) : EnumSet.copyOf(reasons);
+    }
+
+    public Person getFirst() {
+        return first;
+    }
+
+    public Person getSecond() {
+        return second;
+    }
+
+    /**
+     * Returns how alike the two persons are, from 0 to 1.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Returns an immutable set of the reasons that the two persons are likely to be the same person.
+     */
+    public Set<Reason> getReasons() {
+        return Collections.unmodifiableSet(reasons);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof DuplicateCandidate)) {
+            return false;
+        }
+
+        DuplicateCandidate otherCandidate = (DuplicateCandidate) other;
+        return otherCandidate.getFirst().equals(getFirst())
+                && otherCandidate.getSecond().equals(getSecond())
+                && otherCandidate.getScore() == getScore()
+                && otherCandidate.getReasons().equals(getReasons());
+    }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(first, second, score, reasons);
+    }
+
+    @Override
+    public String toString() {
+        return first.getName() + " and " + second.getName() + ": " + reasons;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests that a {@code Person} is in any of the given {@code DuplicateCandidate}s.
+ * The matching persons are ranked in the order of the candidates, so that the persons of each candidate are listed
+ * next to each other, unless one of them is in an earlier candidate too.
+ */
+public class DuplicateCandidatesPredicate implements RankedPredicate {
+    private final List<DuplicateCandidate> candidates;
+
+    /**
+     * The rank of each person in the candidates, from 0 for the best match, by the ID of the person, so that a person
+     * is still matched after it is edited, e.g. to merge it with the other person of its candidate.
+     */
+    private final Map<Long, Integer> ranks = new HashMap<>();
+
+    public DuplicateCandidatesPredicate(List<DuplicateCandidate> candidates) {
+        this.candidates = candidates;
+        for (DuplicateCandidate candidate : candidates) {
+            ranks.putIfAbsent(candidate.getFirst().getId(), ranks.size());
+            ranks.putIfAbsent(candidate.getSecond().getId(), ranks.size());
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return ranks.containsKey(person.getId());
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        return Optional.of(Comparator.comparingInt(person -> ranks.get(person.getId())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DuplicateCandidatesPredicate // instanceof handles nulls
+                && candidates.equals(((DuplicateCandidatesPredicate) other).candidates)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return candidates.hashCode();
+    }
+
+}
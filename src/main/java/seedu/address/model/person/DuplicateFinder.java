@@ -0,0 +1,279 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.DuplicateCandidate.Reason;
+
+/**
+ * Finds the pairs of persons in a list who are likely to be the same person.
+ * Rather than comparing every person with every other, the persons are grouped into blocks by keys that duplicates
+ * are likely to share: their phone and email, normalized so that differently formatted values are alike, and the
+ * Soundex codes of their names. Only the persons in the same block are compared, and blocks of more than
+ * {@code maxBlockSize} persons, such as those of a common name or a shared office number, are skipped, as they
+ * mostly hold persons who are not duplicates and would take quadratic time to compare. Both the blocking and the
+ * comparing are split across the common fork/join pool.
+ * <p>
+ * Two persons are likely to be the same person if their names are similar and they share a phone, email or address,
+ * or if they share both a phone and an email.
+ */
+public class DuplicateFinder {
+
+    /** The default largest number of persons in a block whose persons are compared. */
+    public static final int DEFAULT_MAX_BLOCK_SIZE = 100;
+
+    /** The least similarity, from 0 to 1, of the names of two persons for them to be similar. */
+    static final double MIN_NAME_SIMILARITY = 0.8;
+
+    /** The number of trailing digits of a phone that are compared, so that a country code prefix is ignored. */
+    private static final int COMPARED_PHONE_DIGITS = 8;
+
+    private static final double PHONE_WEIGHT = 0.25;
+    private static final double EMAIL_WEIGHT = 0.25;
+    private static final double ADDRESS_WEIGHT = 0.15;
+    private static final double NAME_WEIGHT = 0.35;
+
+    private static final String PHONE_KEY_PREFIX = "p:";
+    private static final String EMAIL_KEY_PREFIX = "e:";
+    private static final String NAME_KEY_PREFIX = "n:";
+
+    private final int maxBlockSize;
+
+    public DuplicateFinder() {
+        this(DEFAULT_MAX_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a DuplicateFinder that skips the blocks of more than {@code maxBlockSize} persons.
+     */
+    DuplicateFinder(int maxBlockSize) {
+        checkArgument(maxBlockSize > 1, "Blocks should hold at least two persons");
+        this.maxBlockSize = maxBlockSize;
+    }
+
+    /**
+     * Returns the pairs of persons in {@code persons} who are likely to be the same person, from the most alike to the
+     * least. Pairs that are equally alike are in the order of their first, then second, person in {@code persons}.
+     */
+    public List<DuplicateCandidate> findDuplicates(List<Person> persons) {
+        requireNonNull(persons);
+        ComparedPerson[] comparedPersons = persons.parallelStream().map(ComparedPerson::new)
+                .toArray(ComparedPerson[]::new);
+
+        // each blocking key of a person is encoded as the hash of the key in the high bits, and the position of the
+        // person in the low bits, so that sorting the keys brings the persons of each block together
+        long[] keys = IntStream.range(0, comparedPersons.length).parallel()
+                .mapToObj(i -> comparedPersons[i].getBlockingKeyHashes().mapToLong(hash -> encode(hash, i)))
+                .flatMapToLong(personKeys -> personKeys)
+                .toArray();
+        Arrays.parallelSort(keys);
+
+        long[] pairs = getBlockRanges(keys).parallel()
+                .filter(range -> getEnd(range) - getStart(range) <= maxBlockSize)
+                .flatMap(range -> getPairs(keys, getStart(range), getEnd(range)))
+                .toArray();
+        Arrays.parallelSort(pairs);
+
+        // a pair of persons who share several keys is in several blocks, but is compared only once
+        List<DuplicateCandidate> candidates = IntStream.range(0, pairs.length).parallel()
+                .filter(i -> i == 0 || pairs[i] != pairs[i - 1])
+                .mapToLong(i -> pairs[i])
+                .mapToObj(pair -> compare(comparedPersons[getStart(pair)], comparedPersons[getEnd(pair)]))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toCollection(ArrayList::new));
+        candidates.sort(Comparator.comparingDouble(DuplicateCandidate::getScore).reversed());
+        return candidates;
+    }
+
+    /**
+     * Returns the ranges of {@code sortedKeys} that hold the keys of each block of more than one person.
+     */
+    private static LongStream getBlockRanges(long[] sortedKeys) {
+        LongStream.Builder ranges = LongStream.builder();
+        int blockStart = 0;
+        for (int i = 1; i <= sortedKeys.length; i++) {
+            if (i == sortedKeys.length || getStart(sortedKeys[i]) != getStart(sortedKeys[blockStart])) {
+                if (i - blockStart > 1) {
+                    ranges.add(encode(blockStart, i));
+                }
+                blockStart = i;
+            }
+        }
+        return ranges.build();
+    }
+
+    /**
+     * Returns every pair of the positions of the persons whose keys are from {@code start} to {@code end},
+     * exclusive, in {@code sortedKeys}, with the smaller position of each pair first.
+     */
+    private static LongStream getPairs(long[] sortedKeys, int start, int end) {
+        LongStream.Builder pairs = LongStream.builder();
+        for (int i = start; i < end; i++) {
+            for (int j = i + 1; j < end; j++) {
+                // the positions of a block are in increasing order, as its keys are sorted, but a person may be in a
+                // block twice if two of its keys have the same hash
+                int first = getEnd(sortedKeys[i]);
+                int second = getEnd(sortedKeys[j]);
+                if (first != second) {
+                    pairs.add(encode(first, second));
+                }
+            }
+        }
+        return pairs.build();
+    }
+
+    /**
+     * Returns {@code start} and {@code end} encoded as a single long, which sorts by {@code start} first.
+     */
+    private static long encode(int start, int end) {
+        return (long) start << Integer.SIZE | (end & 0xFFFFFFFFL);
+    }
+
+    private static int getStart(long encoded) {
+        return (int) (encoded >> Integer.SIZE);
+    }
+
+    private static int getEnd(long encoded) {
+        return (int) encoded;
+    }
+
+    /**
+     * Returns {@code first} and {@code second} as a {@code DuplicateCandidate} if they are likely to be the same
+     * person, or an empty {@code Optional} otherwise.
+     */
+    private static Optional<DuplicateCandidate> compare(ComparedPerson first, ComparedPerson second) {
+        // most pairs, such as those of persons whose names only sound alike, share no field, and are ruled out by the
+        // hashes of their fields alone
+        if (first.phoneHash != second.phoneHash && first.emailHash != second.emailHash
+                && first.addressHash != second.addressHash) {
+            return Optional.empty();
+        }
+
+        Set<Reason> reasons = EnumSet.noneOf(Reason.class);
+        if (first.phone.equals(second.phone)) {
+            reasons.add(Reason.SAME_PHONE);
+        }
+        if (first.email.equals(second.email)) {
+            reasons.add(Reason.SAME_EMAIL);
+        }
+        if (first.address.equals(second.address)) {
+            reasons.add(Reason.SAME_ADDRESS);
+        }
+        if (reasons.isEmpty()) {
+            return Optional.empty();
+        }
+        double nameSimilarity = first.getNameSimilarity(second);
+        if (nameSimilarity >= MIN_NAME_SIMILARITY) {
+            reasons.add(Reason.SIMILAR_NAMES);
+        }
+
+        boolean isLikelyDuplicate = reasons.contains(Reason.SIMILAR_NAMES) ? reasons.size() > 1
+                : reasons.contains(Reason.SAME_PHONE) && reasons.contains(Reason.SAME_EMAIL);
+        if (!isLikelyDuplicate) {
+            return Optional.empty();
+        }
+        double score = nameSimilarity * NAME_WEIGHT
+                + (reasons.contains(Reason.SAME_PHONE) ? PHONE_WEIGHT : 0)
+                + (reasons.contains(Reason.SAME_EMAIL) ? EMAIL_WEIGHT : 0)
+                + (reasons.contains(Reason.SAME_ADDRESS) ? ADDRESS_WEIGHT : 0);
+        return Optional.of(new DuplicateCandidate(first.person, second.person, score, reasons));
+    }
+
+    /**
+     * A person with its fields normalized to be compared with those of other persons.
+     */
+    private static class ComparedPerson {
+        private final Person person;
+        private final String name;
+        private final String phoneticName;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final int phoneHash;
+        private final int emailHash;
+        private final int addressHash;
+
+        ComparedPerson(Person person) {
+            this.person = person;
+
+            String[] nameWords = normalize(person.getName().fullName).split(" ");
+            Arrays.sort(nameWords);
+            name = String.join(" ", nameWords);
+            for (int i = 0; i < nameWords.length; i++) {
+                String soundex = StringUtil.getSoundex(nameWords[i]);
+                nameWords[i] = soundex.isEmpty() ? nameWords[i] : soundex;
+            }
+            Arrays.sort(nameWords);
+            phoneticName = String.join(" ", nameWords);
+
+            String phoneValue = person.getPhone().value;
+            phone = phoneValue.substring(Math.max(0, phoneValue.length() - COMPARED_PHONE_DIGITS));
+
+            // the part of the local part of an email after a + is a label that is delivered to the same mailbox
+            String emailValue = person.getEmail().value.trim().toLowerCase(Locale.ROOT);
+            int domainStart = emailValue.lastIndexOf('@');
+            int labelStart = emailValue.indexOf('+');
+            email = labelStart < 0 || labelStart > domainStart ? emailValue
+                    : emailValue.substring(0, labelStart) + emailValue.substring(domainStart);
+
+            address = normalize(person.getAddress().value);
+
+            phoneHash = phone.hashCode();
+            emailHash = email.hashCode();
+            addressHash = address.hashCode();
+        }
+
+        /**
+         * Returns {@code value} in lower case, with each run of characters that are not letters or digits replaced by a
+         * single space, and without leading and trailing spaces.
+         */
+        private static String normalize(String value) {
+            StringBuilder normalized = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    normalized.append(Character.toLowerCase(c));
+                } else if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != ' ') {
+                    normalized.append(' ');
+                }
+            }
+            int length = normalized.length();
+            return length > 0 && normalized.charAt(length - 1) == ' ' ? normalized.substring(0, length - 1)
+                    : normalized.toString();
+        }
+
+        /**
+         * Returns the hashes of the keys of the blocks that this person is in.
+         */
+        IntStream getBlockingKeyHashes() {
+            String phoneKey = PHONE_KEY_PREFIX + phone;
+            String emailKey = EMAIL_KEY_PREFIX + email;
+            String nameKey = NAME_KEY_PREFIX + phoneticName;
+            return IntStream.of(phoneKey.hashCode(), emailKey.hashCode(), nameKey.hashCode());
+        }
+
+        /**
+         * Returns how similar the name of this person is to that of {@code other}, from 0 to 1.
+         * Names that sound alike are at least {@code MIN_NAME_SIMILARITY} similar, however they are spelt.
+         */
+        double getNameSimilarity(ComparedPerson other) {
+            int longerLength = Math.max(name.length(), other.name.length());
+            double similarity = 1 - (double) StringUtil.getEditDistance(name, other.name) / longerLength;
+            return phoneticName.equals(other.phoneticName) ? Math.max(similarity, MIN_NAME_SIMILARITY) : similarity;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} matches any of the patterns given, ignoring case.
+ * A pattern starting with {@link #DOMAIN_PREFIX} matches every email with the domain that follows it, and any other
+ * pattern only matches the same email.
+ * The matching persons are looked up by hashing each pattern in a {@code PersonIndex}.
+ */
+public class EmailMatchesPredicate implements IndexedPredicate {
+    public static final String DOMAIN_PREFIX = "@";
+
+    private final List<String> patterns;
+
+    public EmailMatchesPredicate(List<String> patterns) {
+        this.patterns = patterns;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String email = person.getEmail().value;
+        String domain = email.substring(email.indexOf(DOMAIN_PREFIX) + DOMAIN_PREFIX.length());
+        return patterns.stream().anyMatch(pattern -> isDomainPattern(pattern)
+                ? getDomain(pattern).equalsIgnoreCase(domain)
+                : pattern.equalsIgnoreCase(email));
+    }
+
+    @Override
+    public Set<Person> lookUp(PersonIndex index) {
+        Set<Person> matchingPersons = new HashSet<>();
+        for (String pattern : patterns) {
+            matchingPersons.addAll(getPersonsMatching(index, pattern));
+        }
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return patterns.stream().mapToInt(pattern -> getPersonsMatching(index, pattern).size()).sum();
+    }
+
+    private static Set<Person> getPersonsMatching(PersonIndex index, String pattern) {
+        return isDomainPattern(pattern)
+                ? index.getPersonsWithEmailDomain(getDomain(pattern))
+                : index.getPersonsWithEmail(pattern);
+    }
+
+    /**
+     * Returns true if {@code pattern} matches every email with the domain that follows its {@code DOMAIN_PREFIX}.
+     */
+    public static boolean isDomainPattern(String pattern) {
+        return pattern.startsWith(DOMAIN_PREFIX);
+    }
+
+    private static String getDomain(String domainPattern) {
+        return domainPattern.substring(DOMAIN_PREFIX.length());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EmailMatchesPredicate // instanceof handles nulls
+                && patterns.equals(((EmailMatchesPredicate) other).patterns)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return patterns.hashCode();
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.OrdinalBitmap;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has at least one tag from each of the groups of tags given (AND of ORs), and none of
+ * the excluded tags (NOT).
+ * The matching persons are looked up by combining the tag bitmaps of a {@code PersonIndex}: the bitmaps in each group
+ * are ORed, the groups are ANDed starting from the smallest, and the excluded bitmaps are then subtracted.
+ */
+public class HasTagsPredicate implements IndexedPredicate {
+    /** Separates the tags of a group in a tag query, e.g. {@code friends|family}. */
+    public static final String GROUP_SEPARATOR = "|";
+    /** Marks an excluded tag in a tag query, e.g. {@code !family}. */
+    public static final String EXCLUDED_PREFIX = "!";
+
+    private final List<Set<Tag>> tagGroups;
+    private final Set<Tag> excludedTags;
+
+    public HasTagsPredicate(List<Set<Tag>> tagGroups, Set<Tag> excludedTags) {
+        this.tagGroups = tagGroups;
+        this.excludedTags = excludedTags;
+    }
+
+    /**
+     * Creates a {@code HasTagsPredicate} that tests that a {@code Person} has all of {@code tags}.
+     */
+    public HasTagsPredicate(Set<Tag> tags) {
+        this(tags.stream().map(Collections::singleton).collect(Collectors.toList()), Collections.emptySet());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> tags = person.getTags();
+        return !isEmpty()
+                && tagGroups.stream().allMatch(group -> group.stream().anyMatch(tags::contains))
+                && excludedTags.stream().noneMatch(tags::contains);
+    }
+
+    @Override
+    public Set<Person> lookUp(PersonIndex index) {
+        if (isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<OrdinalBitmap> groupBitmaps = tagGroups.stream()
+                .map(group -> getBitmap(index, group))
+                .sorted(Comparator.comparingInt(OrdinalBitmap::cardinality))
+                .collect(Collectors.toList());
+        OrdinalBitmap matches = null;
+        for (OrdinalBitmap groupBitmap : groupBitmaps) {
+            matches = matches == null ? groupBitmap : matches.and(groupBitmap);
+        }
+        if (matches == null) {
+            matches = index.getAllPersonsBitmap();
+        }
+        return index.getPersons(matches.andNot(getBitmap(index, excludedTags)));
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        int estimate = index.getPersonCount();
+        for (Set<Tag> group : tagGroups) {
+            estimate = Math.min(estimate, group.stream()
+                    .mapToInt(tag -> index.getTagBitmap(tag.tagName).cardinality())
+                    .sum());
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns a bitmap of the persons in {@code index} who have any of {@code tags}.
+     */
+    private static OrdinalBitmap getBitmap(PersonIndex index, Set<Tag> tags) {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        for (Tag tag : tags) {
+            bitmap = bitmap.or(index.getTagBitmap(tag.tagName));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns true if there are neither groups of tags nor excluded tags, in which case no person matches.
+     */
+    private boolean isEmpty() {
+        return tagGroups.isEmpty() && excludedTags.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HasTagsPredicate // instanceof handles nulls
+                && tagGroups.equals(((HasTagsPredicate) other).tagGroups)
+                && excludedTags.equals(((HasTagsPredicate) other).excludedTags)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tagGroups, excludedTags);
+    }
+
+}
@@ -1,14 +1,31 @@
 package seedu.address.model.person;
 
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a word in the name if they are the same, ignoring case. A keyword ending with
+ * {@link #PREFIX_WILDCARD} matches every word that starts with the rest of the keyword instead, and a keyword ending
+ * with {@link #FUZZY_SUFFIX} matches every word within {@link #getMaxEditDistance(int)} edits of the rest of it.
+ * The matching persons can be looked up as the union of the posting lists of the keywords in a {@code PersonIndex},
+ * and are ranked by the least number of edits between a keyword and a word in their name.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate, RankedPredicate {
+    public static final String PREFIX_WILDCARD = "*";
+    public static final String FUZZY_SUFFIX = "~";
+
+    /** The distance of a person whose name does not match a keyword. */
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -17,8 +34,128 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return keywords.stream().anyMatch(keyword -> getDistance(person, keyword) != NO_MATCH);
+    }
+
+    @Override
+    public Set<Person> lookUp(PersonIndex index) {
+        Set<Person> matchingPersons = new HashSet<>();
+        for (String keyword : keywords) {
+            if (isPrefixKeyword(keyword)) {
+                matchingPersons.addAll(index.getPersonsWithNameWordPrefix(getPrefix(keyword)));
+            } else if (isFuzzyKeyword(keyword)) {
+                String word = getFuzzyWord(keyword);
+                matchingPersons.addAll(index.getPersonsWithNameWordNear(word,
+                        getMaxEditDistance(word.length())).keySet());
+            } else {
+                matchingPersons.addAll(index.getPersonsWithNameWord(keyword.trim()));
+            }
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Returns the total size of the posting lists of the keywords that are neither prefix nor fuzzy keywords, or the
+     * number of persons in {@code index} if there are any prefix or fuzzy keywords, as those may match any person.
+     */
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        int estimate = 0;
+        for (String keyword : keywords) {
+            if (isPrefixKeyword(keyword) || isFuzzyKeyword(keyword)) {
+                return index.getPersonCount();
+            }
+            estimate += index.getPersonsWithNameWord(keyword.trim()).size();
+        }
+        return Math.min(estimate, index.getPersonCount());
+    }
+
+    /**
+     * Returns a ranking of persons by the least number of edits between a keyword and a word in their name, if any
+     * keyword is a fuzzy keyword.
+     * Persons that are the same distance away keep their relative order.
+     * The distances are worked out afresh for each comparison rather than remembered, so that the ranking holds on to
+     * nothing for as long as it is in use, and only the matching persons are ever compared.
+     */
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        if (keywords.stream().noneMatch(NameContainsKeywordsPredicate::isFuzzyKeyword)) {
+            return Optional.empty();
+        }
+        return Optional.of(Comparator.comparingInt(this::getDistance));
+    }
+
+    /**
+     * Returns the least number of edits between a keyword and a word in the name of {@code person}, or
+     * {@code NO_MATCH} if the name does not match any keyword.
+     */
+    private int getDistance(Person person) {
+        return keywords.stream().mapToInt(keyword -> getDistance(person, keyword)).min().orElse(NO_MATCH);
+    }
+
+    /**
+     * Returns the least number of edits between {@code keyword} and a word in the name of {@code person}, or
+     * {@code NO_MATCH} if the name does not match {@code keyword}.
+     * Names that match a keyword that is not fuzzy are no edits away from it.
+     */
+    private static int getDistance(Person person, String keyword) {
+        String fullName = person.getName().fullName;
+        if (isPrefixKeyword(keyword)) {
+            return StringUtil.containsWordWithPrefixIgnoreCase(fullName, getPrefix(keyword)) ? 0 : NO_MATCH;
+        }
+        if (!isFuzzyKeyword(keyword)) {
+            return StringUtil.containsWordIgnoreCase(fullName, keyword) ? 0 : NO_MATCH;
+        }
+
+        String word = getFuzzyWord(keyword).toLowerCase(Locale.ROOT);
+        int maxDistance = getMaxEditDistance(word.length());
+        int distance = NO_MATCH;
+        for (String nameWord : fullName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (Math.abs(nameWord.length() - word.length()) <= maxDistance) {
+                distance = Math.min(distance, StringUtil.getEditDistance(word, nameWord));
+            }
+        }
+        return distance <= maxDistance ? distance : NO_MATCH;
+    }
+
+    /**
+     * Returns true if {@code keyword} matches the words that start with it, rather than only the same word.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        return keyword.trim().endsWith(PREFIX_WILDCARD);
+    }
+
+    /**
+     * Returns true if {@code keyword} matches the words that are a few edits away from it, rather than only the
+     * same word.
+     */
+    public static boolean isFuzzyKeyword(String keyword) {
+        return keyword.trim().endsWith(FUZZY_SUFFIX);
+    }
+
+    /**
+     * Returns the most edits that a word may be away from a fuzzy keyword of {@code length} characters, excluding
+     * its {@code FUZZY_SUFFIX}, to match it.
+     * Short keywords allow fewer edits, as most words are only a few edits away from them.
+     */
+    public static int getMaxEditDistance(int length) {
+        if (length <= 2) {
+            return 0;
+        } else if (length <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    private static String getPrefix(String prefixKeyword) {
+        String trimmedKeyword = prefixKeyword.trim();
+        return trimmedKeyword.substring(0, trimmedKeyword.length() - PREFIX_WILDCARD.length());
+    }
+
+    private static String getFuzzyWord(String fuzzyKeyword) {
+        String trimmedKeyword = fuzzyKeyword.trim();
+        return trimmedKeyword.substring(0, trimmedKeyword.length() - FUZZY_SUFFIX.length());
     }
 
     @Override
@@ -28,4 +165,9 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
@@ -0,0 +1,438 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list of persons that shares structure with the lists it is derived from.
+ * Every update returns a new list and leaves the original unchanged, copying only the O(log n) nodes on the path
+ * to the updated position. This makes it cheap to keep many versions of a large list at the same time.
+ *
+ * The list is backed by a height-balanced binary tree, in which the position of a node is given by the number of
+ * nodes to its left.
+ */
+public final class PersistentPersonList implements Iterable<Person> {
+
+    private static final PersistentPersonList EMPTY = new PersistentPersonList(null);
+
+    private final Node root;
+
+    private PersistentPersonList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    public static PersistentPersonList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list containing {@code persons} in the same order.
+     */
+    public static PersistentPersonList of(List<? extends Person> persons) {
+        requireNonNull(persons);
+        Person[] personArray = persons.toArray(new Person[0]);
+        return new PersistentPersonList(build(personArray, 0, personArray.length));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the person at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    public Person get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.person;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the person at {@code index} replaced by {@code person}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    public PersistentPersonList set(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size());
+        return new PersistentPersonList(setInTree(root, index, person));
+    }
+
+    /**
+     * Returns a list with {@code person} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size()]}.
+     */
+    public PersistentPersonList add(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size() + 1);
+        return new PersistentPersonList(addToTree(root, index, person));
+    }
+
+    /**
+     * Returns a list with the person at {@code index} removed.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    public PersistentPersonList remove(int index) {
+        checkIndex(index, size());
+        return new PersistentPersonList(removeFromTree(root, index));
+    }
+
+    /**
+     * Returns the persons in this list as a new mutable {@code List}.
+     */
+    public List<Person> toList() {
+        List<Person> persons = new ArrayList<>(size());
+        forEach(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns the persons from index {@code from} (inclusive) to {@code to} (exclusive) as a new mutable {@code List},
+     * in O(log n) time plus the number of persons returned.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} or {@code to} is not within {@code [0, size()]}, or
+     *     {@code from} is greater than {@code to}.
+     */
+    public List<Person> subList(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size());
+        }
+        List<Person> persons = new ArrayList<>(to - from);
+        collect(root, from, to, persons);
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons at the start of this list that are the same objects as those at the start of
+     * {@code other}. Subtrees that the two lists share are skipped over whole, so comparing two versions of a list
+     * takes O(log n) time per person changed between them, rather than O(n) time.
+     */
+    public int getCommonPrefixLength(PersistentPersonList other) {
+        requireNonNull(other);
+        return countCommonPersons(new Cursor(root, false), new Cursor(other.root, false), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of persons, up to {@code limit}, at the end of this list that are the same objects as those
+     * at the end of {@code other}, in the same time as {@link #getCommonPrefixLength(PersistentPersonList)}.
+     */
+    public int getCommonSuffixLength(PersistentPersonList other, int limit) {
+        requireNonNull(other);
+        return countCommonPersons(new Cursor(root, true), new Cursor(other.root, true), limit);
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new Iterator<Person>() {
+            private final Deque<Node> path = new ArrayDeque<>();
+
+            {
+                pushLeftPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Person next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                pushLeftPath(node.right);
+                return node.person;
+            }
+
+            private void pushLeftPath(Node node) {
+                for (Node current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentPersonList)) {
+            return false;
+        }
+
+        PersistentPersonList otherList = (PersistentPersonList) other;
+        if (otherList.root == root) {
+            return true;
+        }
+        if (otherList.size() != size()) {
+            return false;
+        }
+
+        Iterator<Person> otherIterator = otherList.iterator();
+        for (Person person : this) {
+            if (!person.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // same as List#hashCode
+        int hashCode = 1;
+        for (Person person : this) {
+            hashCode = 31 * hashCode + person.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    /**
+     * Adds the persons of the tree rooted at {@code node} from index {@code from} (inclusive) to {@code to}
+     * (exclusive) to {@code persons}, in order.
+     */
+    private static void collect(Node node, int from, int to, List<Person> persons) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int leftSize = sizeOf(node.left);
+        if (from < leftSize) {
+            collect(node.left, from, Math.min(to, leftSize), persons);
+        }
+        if (from <= leftSize && leftSize < to) {
+            persons.add(node.person);
+        }
+        if (to > leftSize + 1) {
+            collect(node.right, Math.max(from - leftSize - 1, 0), to - leftSize - 1, persons);
+        }
+    }
+
+    /**
+     * Returns the number of persons, up to {@code limit}, that {@code cursor} and {@code otherCursor} pass over
+     * before they reach persons that are not the same object.
+     */
+    private static int countCommonPersons(Cursor cursor, Cursor otherCursor, int limit) {
+        int count = 0;
+        while (count < limit && cursor.hasNext() && otherCursor.hasNext()) {
+            Node next = cursor.peek();
+            Node otherNext = otherCursor.peek();
+            if (next == otherNext && count + next.size <= limit) {
+                count += next.size;
+                cursor.skip();
+                otherCursor.skip();
+            } else if (next.size == 1 && otherNext.size == 1) {
+                if (next.person != otherNext.person) {
+                    break;
+                }
+                count++;
+                cursor.skip();
+                otherCursor.skip();
+            } else if (next.size >= otherNext.size) {
+                cursor.split();
+            } else {
+                otherCursor.split();
+            }
+        }
+        return count;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns a balanced tree of the persons in {@code persons} from index {@code from} (inclusive) to {@code to}
+     * (exclusive).
+     */
+    private static Node build(Person[] persons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(build(persons, from, mid), requireNonNull(persons[mid]), build(persons, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with the person at {@code index} replaced by {@code person}.
+     */
+    private static Node setInTree(Node node, int index, Person person) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node(setInTree(node.left, index, person), node.person, node.right);
+        } else if (index > leftSize) {
+            return new Node(node.left, node.person, setInTree(node.right, index - leftSize - 1, person));
+        } else {
+            return new Node(node.left, person, node.right);
+        }
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with {@code person} inserted at {@code index}.
+     */
+    private static Node addToTree(Node node, int index, Person person) {
+        if (node == null) {
+            return new Node(null, person, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(addToTree(node.left, index, person), node.person, node.right);
+        } else {
+            return balance(node.left, node.person, addToTree(node.right, index - leftSize - 1, person));
+        }
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with the person at {@code index} removed.
+     */
+    private static Node removeFromTree(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removeFromTree(node.left, index), node.person, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.person, removeFromTree(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.person, removeFromTree(node.right, 0));
+        }
+    }
+
+    /**
+     * Joins {@code left}, {@code person} and {@code right} into a tree, rotating if the heights of {@code left} and
+     * {@code right} differ by more than one.
+     */
+    private static Node balance(Node left, Person person, Node right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.left, left.person, new Node(left.right, person, right));
+            }
+            return new Node(new Node(left.left, left.person, left.right.left), left.right.person,
+                    new Node(left.right.right, person, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(new Node(left, person, right.left), right.person, right.right);
+            }
+            return new Node(new Node(left, person, right.left.left), right.left.person,
+                    new Node(right.left.right, right.person, right.right));
+        }
+        return new Node(left, person, right);
+    }
+
+    /**
+     * A position in the persons of a tree, in order or in reverse order, which is before the subtree at the top of its
+     * stack. A subtree is only split into its parts when its persons have to be compared one by one.
+     */
+    private static final class Cursor {
+        private final Deque<Node> pending = new ArrayDeque<>();
+        private final boolean isReversed;
+
+        Cursor(Node root, boolean isReversed) {
+            this.isReversed = isReversed;
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        Node peek() {
+            return pending.peek();
+        }
+
+        void skip() {
+            pending.pop();
+        }
+
+        /**
+         * Replaces the subtree at the top of the stack with its left subtree, a single node of its person, and its
+         * right subtree, in the order that they are passed over.
+         */
+        void split() {
+            Node node = pending.pop();
+            Node first = isReversed ? node.right : node.left;
+            Node last = isReversed ? node.left : node.right;
+            if (last != null) {
+                pending.push(last);
+            }
+            pending.push(new Node(null, node.person, null));
+            if (first != null) {
+                pending.push(first);
+            }
+        }
+    }
+
+    /**
+     * An immutable node of the tree.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Person person;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(Node left, Person person, Node right) {
+            this.left = left;
+            this.person = person;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
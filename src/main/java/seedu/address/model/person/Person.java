@@ -6,15 +6,23 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
+ * Each person has an ID that stays the same when the person is edited, or saved and loaded again, so that the person
+ * can be looked up without comparing its fields. The ID is not part of the equality of persons.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Person {
 
+    /** The ID to give the next person created without one, which is greater than the ID of any other person. */
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,9 +34,20 @@ public class Person {
 
     /**
      * Every field must be present and not null.
+     * The person is given a new ID.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(nextId.getAndIncrement(), name, phone, email, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * @param id the ID of the person, such as that of the person it is an edited version of.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        nextId.accumulateAndGet(id + 1, Math::max);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -36,6 +55,10 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A hash index over the identity fields of persons, used to answer {@code Person#isSamePerson(Person)} queries
+ * without scanning every person.
+ * Each person is indexed under both its (name, phone) and its (name, email) pair, since two persons are the same
+ * person exactly when they share at least one of these pairs.
+ *
+ * The index does not enforce uniqueness by itself; callers are expected to check {@link #containsSamePerson(Person)}
+ * before adding.
+ *
+ * @see Person#isSamePerson(Person)
+ */
+class PersonIdentityIndex {
+
+    private final Map<List<Object>, Person> byNameAndPhone = new HashMap<>();
+    private final Map<List<Object>, Person> byNameAndEmail = new HashMap<>();
+
+    /**
+     * Returns true if the index contains a person with the same identity as {@code person}.
+     */
+    boolean containsSamePerson(Person person) {
+        requireNonNull(person);
+        return byNameAndPhone.containsKey(nameAndPhoneKey(person))
+                || byNameAndEmail.containsKey(nameAndEmailKey(person));
+    }
+
+    /**
+     * Returns an indexed person with the same identity as {@code person}, if any.
+     */
+    Optional<Person> getSamePerson(Person person) {
+        requireNonNull(person);
+        Person samePerson = byNameAndPhone.get(nameAndPhoneKey(person));
+        if (samePerson == null) {
+            samePerson = byNameAndEmail.get(nameAndEmailKey(person));
+        }
+        return Optional.ofNullable(samePerson);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        byNameAndPhone.put(nameAndPhoneKey(person), person);
+        byNameAndEmail.put(nameAndEmailKey(person), person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     * Entries that map to a different person are left untouched.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        byNameAndPhone.remove(nameAndPhoneKey(person), person);
+        byNameAndEmail.remove(nameAndEmailKey(person), person);
+    }
+
+    private static List<Object> nameAndPhoneKey(Person person) {
+        return Arrays.asList(person.getName(), person.getPhone());
+    }
+
+    private static List<Object> nameAndEmailKey(Person person) {
+        return Arrays.asList(person.getName(), person.getEmail());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} is any of the phones given.
+ * The matching persons are looked up by hashing each phone in a {@code PersonIndex}.
+ */
+public class PhoneMatchesPredicate implements IndexedPredicate {
+    private final List<Phone> phones;
+
+    public PhoneMatchesPredicate(List<Phone> phones) {
+        this.phones = phones;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return phones.contains(person.getPhone());
+    }
+
+    @Override
+    public Set<Person> lookUp(PersonIndex index) {
+        Set<Person> matchingPersons = new HashSet<>();
+        for (Phone phone : phones) {
+            matchingPersons.addAll(index.getPersonsWithPhone(phone.value));
+        }
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return phones.stream().mapToInt(phone -> index.getPersonsWithPhone(phone.value).size()).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhoneMatchesPredicate // instanceof handles nulls
+                && phones.equals(((PhoneMatchesPredicate) other).phones)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return phones.hashCode();
+    }
+
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that ranks the persons matching it by how well they match.
+ */
+public interface RankedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a comparator that orders the persons matching this predicate from the best match to the worst, or an
+     * empty {@code Optional} if all of them match equally well.
+     */
+    Optional<Comparator<Person>> getRanking();
+}
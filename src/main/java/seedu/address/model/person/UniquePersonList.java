@@ -1,10 +1,18 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,20 +26,41 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered by a {@code PersonIdentityIndex} that is kept in sync with the list, so that they do
+ * not require a scan of every person in the list. Likewise, the persons to update or remove are found by looking up
+ * the position of their ID, rather than comparing them with every person in the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /**
+     * The maximum number of persons that are replaced or removed one at a time when changing several persons at once.
+     * Changes to more persons are made by replacing the range of persons spanning them with a single list change
+     * instead, so that the cost of the change does not grow with both the size of the list and the number of persons
+     * changed.
+     */
+    private static final int MAX_SEPARATELY_CHANGED_PERSONS = 32;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private PersonIdentityIndex identityIndex = new PersonIdentityIndex();
+
+    /**
+     * The position in the list of each person, by the ID of the person.
+     * Adding or removing persons shifts the positions of the persons after them, so the positions are only updated
+     * when they are next looked up, and only those from {@code firstStalePosition} on, which may be out of date.
+     */
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int firstStalePosition;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsSamePerson(toCheck);
     }
 
     /**
@@ -44,6 +73,28 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.add(toAdd);
+        positions.put(toAdd.getId(), internalList.size() - 1);
+        if (firstStalePosition == internalList.size() - 1) {
+            firstStalePosition++;
+        }
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, with a single list change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     * If it does, the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        for (int i = 0; i < toAdd.size(); i++) {
+            if (contains(toAdd.get(i))) {
+                toAdd.subList(0, i).forEach(identityIndex::remove);
+                throw new DuplicatePersonException();
+            }
+            identityIndex.add(toAdd.get(i));
+        }
+        internalList.addAll(toAdd);
     }
 
     /**
@@ -54,7 +105,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -64,6 +115,10 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positions.remove(target.getId());
+        positions.put(editedPerson.getId(), index);
+        identityIndex.remove(target);
+        identityIndex.add(editedPerson);
     }
 
     /**
@@ -72,14 +127,46 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getId());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        identityIndex.remove(toRemove);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, changing only the range of the list that spans
+     * them.
+     * All of the persons must exist in the list. If they do not, the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removedPersons = new HashSet<>(toRemove);
+        int[] span = getSpan(removedPersons);
+
+        if (removedPersons.size() <= MAX_SEPARATELY_CHANGED_PERSONS) {
+            internalList.removeAll(removedPersons);
+            removedPersons.forEach(person -> positions.remove(person.getId()));
+            firstStalePosition = Math.min(firstStalePosition, span[0]);
+        } else {
+            List<Person> keptPersons = internalList.subList(span[0], span[1]).stream()
+                    .filter(person -> !removedPersons.contains(person))
+                    .collect(Collectors.toList());
+            replaceRange(span[0], span[1] - span[0], keptPersons);
+        }
+        removedPersons.forEach(identityIndex::remove);
     }
 
+    /**
+     * Replaces the contents of this list with the persons in {@code replacement}.
+     * As {@code replacement} is already known to contain only unique persons, no uniqueness check is done.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setUniquePersons(replacement.internalList);
     }
 
     /**
@@ -88,11 +175,79 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        PersonIdentityIndex replacementIndex = new PersonIdentityIndex();
+        for (Person person : persons) {
+            if (replacementIndex.containsSamePerson(person)) {
+                throw new DuplicatePersonException();
+            }
+            replacementIndex.add(person);
         }
 
-        internalList.setAll(persons);
+        int from = getCommonPrefixLength(persons);
+        int commonSuffixLength = getCommonSuffixLength(persons, from);
+        replaceRange(from, internalList.size() - commonSuffixLength - from,
+                persons.subList(from, persons.size() - commonSuffixLength));
+        identityIndex = replacementIndex;
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, changing
+     * only the range of the list that spans {@code targets}.
+     * Each of {@code targets} must exist in the list, and must appear in {@code targets} only once. The person
+     * identities of {@code editedPersons} must not be the same as each other, or as the other persons in the list. If
+     * they are, the list is left unchanged.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Every target should have an edited person");
+        Map<Person, Person> edits = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            edits.put(targets.get(i), editedPersons.get(i));
+        }
+        checkArgument(edits.size() == targets.size(), "Targets should not contain the same person twice");
+        int[] span = getSpan(edits.keySet());
+
+        targets.forEach(identityIndex::remove);
+        for (int i = 0; i < editedPersons.size(); i++) {
+            if (contains(editedPersons.get(i))) {
+                editedPersons.subList(0, i).forEach(identityIndex::remove);
+                targets.forEach(identityIndex::add);
+                throw new DuplicatePersonException();
+            }
+            identityIndex.add(editedPersons.get(i));
+        }
+
+        List<Person> replacement = new ArrayList<>(internalList.subList(span[0], span[1]));
+        replacement.replaceAll(person -> edits.getOrDefault(person, person));
+        replaceRange(span[0], replacement.size(), replacement);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}.
+     * {@code persons} must already be known to contain only unique persons, e.g. because it was copied from another
+     * {@code UniquePersonList}, as no uniqueness check is done.
+     */
+    public void setUniquePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        int from = getCommonPrefixLength(persons);
+        int commonSuffixLength = getCommonSuffixLength(persons, from);
+        replaceUniquePersons(from, internalList.size() - commonSuffixLength - from,
+                persons.subList(from, persons.size() - commonSuffixLength));
+    }
+
+    /**
+     * Replaces the {@code count} persons starting at index {@code from} with {@code persons}.
+     * The resulting list must already be known to contain only unique persons, e.g. because it is a previous state of
+     * this list, as no uniqueness check is done.
+     *
+     * @throws IndexOutOfBoundsException if the range to replace is not within the list.
+     */
+    public void replaceUniquePersons(int from, int count, List<Person> persons) {
+        requireAllNonNull(persons);
+        internalList.subList(from, from + count).forEach(identityIndex::remove);
+        replaceRange(from, count, persons);
+        persons.forEach(identityIndex::add);
     }
 
     /**
@@ -120,16 +275,102 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the start and end (exclusive) of the smallest range of this list that holds all of {@code persons}.
+     * @throws PersonNotFoundException if any of {@code persons} is not in this list.
+     */
+    private int[] getSpan(Set<Person> persons) {
+        int start = internalList.size();
+        int end = 0;
+        for (Person person : persons) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            start = Math.min(start, index);
+            end = Math.max(end, index + 1);
+        }
+        return new int[] {Math.min(start, end), end};
+    }
+
+    /**
+     * Returns the position of the equivalent person of {@code person} in the list, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer position = positions.get(person.getId());
+        if ((position == null || position >= firstStalePosition) && firstStalePosition < internalList.size()) {
+            updateStalePositions();
+            position = positions.get(person.getId());
+        }
+        if (position != null && internalList.get(position).equals(person)) {
+            return position;
+        }
+        // persons who share an ID, such as those in a data file that was edited by hand, have to be searched for
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Updates the positions that may be out of date, from {@code firstStalePosition} to the end of the list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private void updateStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        firstStalePosition = internalList.size();
+    }
+
+    /**
+     * Returns the number of persons at the start of this list that are the same as those at the start of
+     * {@code persons}.
+     */
+    private int getCommonPrefixLength(List<Person> persons) {
+        int length = 0;
+        int maxLength = Math.min(internalList.size(), persons.size());
+        while (length < maxLength && internalList.get(length).equals(persons.get(length))) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of persons at the end of this list that are the same as those at the end of
+     * {@code persons}, not counting the first {@code prefixLength} persons of either list.
+     */
+    private int getCommonSuffixLength(List<Person> persons, int prefixLength) {
+        int length = 0;
+        int maxLength = Math.min(internalList.size(), persons.size()) - prefixLength;
+        while (length < maxLength && internalList.get(internalList.size() - 1 - length)
+                .equals(persons.get(persons.size() - 1 - length))) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Replaces the {@code count} persons starting at index {@code from} with {@code persons}, firing only the list
+     * changes needed so that observers of the list do not have to re-examine persons that are left unchanged.
+     * Does not update the identity index.
+     */
+    private void replaceRange(int from, int count, List<Person> persons) {
+        internalList.subList(from, from + count).forEach(person -> positions.remove(person.getId()));
+        if (count == persons.size()) {
+            for (int i = 0; i < count; i++) {
+                positions.put(persons.get(i).getId(), from + i);
+            }
+        } else {
+            firstStalePosition = Math.min(firstStalePosition, from);
+        }
+
+        if (count == persons.size() && count <= MAX_SEPARATELY_CHANGED_PERSONS) {
+            for (int i = 0; i < count; i++) {
+                if (!internalList.get(from + i).equals(persons.get(i))) {
+                    internalList.set(from + i, persons.get(i));
                 }
             }
+        } else if (count == internalList.size()) {
+            internalList.setAll(persons);
+        } else {
+            internalList.remove(from, from + count);
+            internalList.addAll(from, persons);
         }
-        return true;
     }
 }
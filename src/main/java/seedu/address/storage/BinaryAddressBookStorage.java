@@ -0,0 +1,306 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header of the bytes {@code MAGIC} and the version of its format. It is followed by a
+ * dictionary of the names of the tags of all persons, which is the number of names and then each name, and by the
+ * persons, which is the number of persons and then, for each person, its ID, name, phone, email and address, the
+ * number of its tags, and the position of each of its tags in the dictionary. Numbers and the lengths of names and
+ * fields are unsigned variable-length integers, of 7 bits per byte with the high bit set on all bytes but the last,
+ * and names and fields are encoded in UTF-8, prefixed by the number of their bytes.
+ * <p>
+ * The file is read from a memory-mapped buffer, without copying it into the heap first. On Windows, the file cannot
+ * be replaced until the buffer has been garbage collected.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    static final byte[] MAGIC = {'A', 'B', 'I', 'N'};
+    static final int VERSION = 1;
+
+    private static final String MESSAGE_NOT_BINARY = "The file is not a binary address book";
+    private static final String MESSAGE_UNSUPPORTED_VERSION = "Version %1$d of the binary format is not supported";
+    private static final String MESSAGE_MALFORMED = "The binary address book is malformed";
+
+    /** The size of the buffer that the file is written to before it is written to the disk. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("AddressBook file " + filePath + " is too large to be read");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(new Decoder(buffer).decode());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), WRITE_BUFFER_SIZE)) {
+            encode(addressBook.getPersonList(), out);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} in the binary format.
+     */
+    private static void encode(List<Person> persons, OutputStream out) throws IOException {
+        Map<String, Integer> tagPositions = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagPositions.putIfAbsent(tag.tagName, tagPositions.size());
+            }
+        }
+
+        out.write(MAGIC);
+        writeVarLong(out, VERSION);
+        writeVarLong(out, tagPositions.size());
+        for (String tagName : tagPositions.keySet()) {
+            writeString(out, tagName);
+        }
+
+        writeVarLong(out, persons.size());
+        for (Person person : persons) {
+            writeVarLong(out, person.getId());
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            writeVarLong(out, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarLong(out, tagPositions.get(tag.tagName));
+            }
+        }
+    }
+
+    /**
+     * Writes the non-negative {@code value} to {@code out} as an unsigned variable-length integer.
+     */
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Writes {@code value} to {@code out} in UTF-8, prefixed by the number of its bytes.
+     */
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads an address book in the binary format from a buffer.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        /** A buffer that the bytes of each string are copied into, which is reused for the next string. */
+        private byte[] stringBytes = new byte[64];
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the address book in the buffer.
+         * @throws IllegalValueException if the buffer does not hold a valid address book in a supported version.
+         */
+        AddressBook decode() throws IllegalValueException {
+            try {
+                byte[] magic = new byte[Math.min(MAGIC.length, buffer.remaining())];
+                buffer.get(magic);
+                if (!Arrays.equals(magic, MAGIC)) {
+                    throw new IllegalValueException(MESSAGE_NOT_BINARY);
+                }
+                long version = readVarLong();
+                if (version != VERSION) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+                }
+
+                Tag[] tags = new Tag[readLength()];
+                for (int i = 0; i < tags.length; i++) {
+                    String tagName = readString();
+                    if (!Tag.isValidTagName(tagName)) {
+                        throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+                    }
+                    tags[i] = new Tag(tagName);
+                }
+
+                AddressBook addressBook = new AddressBook();
+                int personCount = readLength();
+                for (int i = 0; i < personCount; i++) {
+                    Person person = readPerson(tags);
+                    if (addressBook.hasPerson(person)) {
+                        throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(person);
+                }
+                if (buffer.hasRemaining()) {
+                    throw new IllegalValueException(MESSAGE_MALFORMED);
+                }
+                return addressBook;
+            } catch (BufferUnderflowException bue) {
+                throw new IllegalValueException(MESSAGE_MALFORMED);
+            }
+        }
+
+        /**
+         * Returns the next person in the buffer, whose tags are looked up in {@code tags}.
+         */
+        private Person readPerson(Tag[] tags) throws IllegalValueException {
+            long id = readVarLong();
+
+            String name = readString();
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+            }
+            String phone = readString();
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+            }
+            String email = readString();
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_EMAIL_CONSTRAINTS);
+            }
+            String address = readString();
+            if (!Address.isValidAddress(address)) {
+                throw new IllegalValueException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
+            }
+
+            int tagCount = readLength();
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                long position = readVarLong();
+                if (position >= tags.length) {
+                    throw new IllegalValueException(MESSAGE_MALFORMED);
+                }
+                personTags.add(tags[(int) position]);
+            }
+            return new Person(id, new Name(name), new Phone(phone), new Email(email), new Address(address),
+                    personTags);
+        }
+
+        /**
+         * Returns the next unsigned variable-length integer in the buffer.
+         */
+        private long readVarLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_MALFORMED);
+        }
+
+        /**
+         * Returns the next length or count in the buffer, which cannot be more than the number of bytes left.
+         */
+        private int readLength() throws IllegalValueException {
+            long length = readVarLong();
+            if (length > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_MALFORMED);
+            }
+            return (int) length;
+        }
+
+        /**
+         * Returns the next string in the buffer, which is prefixed by the number of its bytes.
+         */
+        private String readString() throws IllegalValueException {
+            int length = readLength();
+            if (length > stringBytes.length) {
+                stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+            }
+            buffer.get(stringBytes, 0, length);
+            return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
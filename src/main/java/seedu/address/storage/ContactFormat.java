@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * The formats of the contacts files that persons can be imported from and exported to.
+ */
+public enum ContactFormat {
+    CSV("csv"),
+    VCARD("vcf", "vcard"),
+    JSON("json");
+
+    /** The size of the buffer that persons are written to before it is written to the file. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final List<String> fileExtensions;
+
+    ContactFormat(String... fileExtensions) {
+        this.fileExtensions = Arrays.asList(fileExtensions);
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}, as given by the extension of its name, ignoring case.
+     */
+    public static Optional<ContactFormat> fromFilePath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> name.contains(".") && format.fileExtensions.contains(extension))
+                .findFirst();
+    }
+
+    /**
+     * Opens the file at {@code filePath}, which is in this format and encoded in UTF-8, for its contacts to be read.
+     * @throws IOException if the file could not be opened.
+     */
+    public ContactReader openReader(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        switch (this) {
+        case CSV:
+            return new CsvContactReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8));
+        case VCARD:
+            return new VCardContactReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8));
+        case JSON:
+            return new JsonContactReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8));
+        default:
+            throw new AssertionError("Unknown contact format " + this);
+        }
+    }
+
+    /**
+     * Creates the file at {@code filePath}, replacing any existing file, for persons to be written to it in this format
+     * and encoded in UTF-8.
+     * The file is written through a buffer, so that it is written in large blocks however small each person is.
+     * @throws IOException if the file could not be created.
+     */
+    public ContactWriter openWriter(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(filePath),
+                StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        try {
+            switch (this) {
+            case CSV:
+                return new CsvContactWriter(writer);
+            case VCARD:
+                return new VCardContactWriter(writer);
+            case JSON:
+                return new JsonContactWriter(writer);
+            default:
+                throw new AssertionError("Unknown contact format " + this);
+            }
+        } catch (IOException ioe) {
+            writer.close();
+            throw ioe;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Reads the contacts in a contacts file one at a time, so that only the contact being read has to be held in memory.
+ */
+public interface ContactReader extends Closeable {
+
+    /**
+     * Returns the next contact in the file, or an empty {@code Optional} if there are no more contacts.
+     * @throws IOException if the file could not be read, or is not in the expected format.
+     */
+    Optional<ContactRecord> read() throws IOException;
+}
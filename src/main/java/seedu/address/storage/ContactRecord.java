@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The details of a person as read from a contacts file, before they are checked to be valid.
+ * Fields that are missing from the file are null.
+ */
+public class ContactRecord {
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+
+    /**
+     * Creates a {@code ContactRecord} that starts at line {@code lineNumber} of its file.
+     */
+    public ContactRecord(int lineNumber, String name, String phone, String email, String address, List<String> tags) {
+        requireNonNull(tags);
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+    }
+
+    /**
+     * Returns the one-based number of the line of the file at which this record starts.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
+
+    public Optional<String> getPhone() {
+        return Optional.ofNullable(phone);
+    }
+
+    public Optional<String> getEmail() {
+        return Optional.ofNullable(email);
+    }
+
+    public Optional<String> getAddress() {
+        return Optional.ofNullable(address);
+    }
+
+    /**
+     * Returns an unmodifiable list of the names of the tags in this record.
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ContactRecord)) {
+            return false;
+        }
+
+        ContactRecord otherRecord = (ContactRecord) other;
+        return lineNumber == otherRecord.lineNumber
+                && Objects.equals(name, otherRecord.name)
+                && Objects.equals(phone, otherRecord.phone)
+                && Objects.equals(email, otherRecord.email)
+                && Objects.equals(address, otherRecord.address)
+                && tags.equals(otherRecord.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineNumber, name, phone, email, address, tags);
+    }
+
+    @Override
+    public String toString() {
+        return "Line " + lineNumber + ": " + name + ", " + phone + ", " + email + ", " + address + ", " + tags;
+    }
+}
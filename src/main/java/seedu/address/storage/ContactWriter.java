@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to a contacts file one at a time, so that only the person being written has to be held in memory.
+ * The file is complete only once the writer is closed.
+ */
+public interface ContactWriter extends Closeable {
+
+    /**
+     * Writes {@code person} to the file, after the persons written before it.
+     * @throws IOException if the file could not be written to.
+     */
+    void write(Person person) throws IOException;
+
+    /**
+     * Returns the names of the tags of {@code person} in alphabetical order, so that persons are always written the
+     * same way.
+     */
+    static List<String> getSortedTagNames(Person person) {
+        return person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Reads contacts from a CSV file, one record at a time.
+ * The first record of the file is a header that names the column of each field, as given by the {@code COLUMN_}
+ * constants, ignoring case. Columns with other names are ignored. Fields may be quoted with {@code "}, in which case
+ * they may contain commas, line breaks and quotes doubled as {@code ""}. The tags of a contact are separated by
+ * {@link #TAG_SEPARATOR}.
+ */
+public class CsvContactReader implements ContactReader {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String TAG_SEPARATOR = ";";
+
+    public static final String MESSAGE_MISSING_HEADER = "The CSV file has no header";
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV header has no %1$s column";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "The quoted field starting at line %1$d is not closed";
+
+    private static final List<String> REQUIRED_COLUMNS = Arrays.asList(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL,
+            COLUMN_ADDRESS);
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+
+    /** The position of each known column in a record, or null if the header has not been read yet. */
+    private Map<String, Integer> columnPositions;
+
+    /** The number of lines read so far. */
+    private int lineNumber;
+
+    /** The line number at which the last record read starts. */
+    private int recordLineNumber;
+
+    public CsvContactReader(BufferedReader reader) {
+        this.reader = requireNonNull(reader);
+    }
+
+    @Override
+    public Optional<ContactRecord> read() throws IOException {
+        if (columnPositions == null) {
+            readHeader();
+        }
+        List<String> fields = readRecord();
+        if (fields == null) {
+            return Optional.empty();
+        }
+        String tags = getField(fields, COLUMN_TAGS);
+        return Optional.of(new ContactRecord(recordLineNumber, getField(fields, COLUMN_NAME),
+                getField(fields, COLUMN_PHONE), getField(fields, COLUMN_EMAIL), getField(fields, COLUMN_ADDRESS),
+                tags == null ? new ArrayList<>() : splitTags(tags)));
+    }
+
+    /**
+     * Reads the header, and finds the position of each known column in it.
+     * @throws IOException if the file has no header, or the header is missing a required column.
+     */
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IOException(MESSAGE_MISSING_HEADER);
+        }
+        if (!header.isEmpty() && !header.get(0).isEmpty() && header.get(0).charAt(0) == BYTE_ORDER_MARK) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        columnPositions = new HashMap<>();
+        for (int i = header.size() - 1; i >= 0; i--) {
+            columnPositions.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columnPositions.containsKey(column)) {
+                throw new IOException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+    }
+
+    /**
+     * Returns the field in {@code column} of {@code fields}, or null if the record has no such field.
+     */
+    private String getField(List<String> fields, String column) {
+        Integer position = columnPositions.get(column);
+        return position == null || position >= fields.size() ? null : fields.get(position);
+    }
+
+    /**
+     * Reads the next record that is not a blank line, and returns its fields, or null at the end of the file.
+     * @throws IOException if the record has a quoted field that is not closed.
+     */
+    private List<String> readRecord() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.trim().isEmpty());
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isInQuotes) {
+                    break;
+                }
+                // a quoted field continues on the next line
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    throw new IOException(String.format(MESSAGE_UNTERMINATED_QUOTE, recordLineNumber));
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isInQuotes && c == '"' && i < line.length() && line.charAt(i) == '"') {
+                field.append('"');
+                i++;
+            } else if (c == '"') {
+                isInQuotes = !isInQuotes;
+            } else if (c == ',' && !isInQuotes) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the non-empty tag names in {@code tags}, which are separated by {@code TAG_SEPARATOR}.
+     */
+    private static List<String> splitTags(String tags) {
+        return Arrays.stream(tags.split(TAG_SEPARATOR))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
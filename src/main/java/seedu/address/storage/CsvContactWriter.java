@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to a CSV file, in the format read by {@link CsvContactReader}.
+ * The file starts with a header naming the columns, and is followed by one record per person. Fields are quoted only
+ * when they contain a comma, quote or line break, or start or end with a space.
+ */
+public class CsvContactWriter implements ContactWriter {
+
+    private static final List<String> HEADER = Arrays.asList(CsvContactReader.COLUMN_NAME,
+            CsvContactReader.COLUMN_PHONE, CsvContactReader.COLUMN_EMAIL, CsvContactReader.COLUMN_ADDRESS,
+            CsvContactReader.COLUMN_TAGS);
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvContactWriter} that writes to {@code writer}, and writes the header to it.
+     * @throws IOException if the header could not be written.
+     */
+    public CsvContactWriter(Writer writer) throws IOException {
+        this.writer = requireNonNull(writer);
+        writeRecord(HEADER);
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        writeRecord(Arrays.asList(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value,
+                String.join(CsvContactReader.TAG_SEPARATOR + " ", ContactWriter.getSortedTagNames(person))));
+    }
+
+    /**
+     * Writes {@code fields} as a single record.
+     */
+    private void writeRecord(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes {@code field}, quoting it if it would not otherwise be read back as it is.
+     */
+    private void writeField(String field) throws IOException {
+        boolean isQuoted = !field.equals(field.trim()) || field.chars().anyMatch(c -> c == ',' || c == '"'
+                || c == '\n' || c == '\r');
+        if (!isQuoted) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
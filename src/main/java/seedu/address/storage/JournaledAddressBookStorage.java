@@ -0,0 +1,685 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a checkpoint, saved by another {@code AddressBookStorage}, and a
+ * journal of the persons added, updated and deleted since the checkpoint was saved.
+ * <p>
+ * Saving the address book only appends the changes made since it was last saved to the journal, so that a save
+ * writes as much as was changed rather than the whole address book. Once the journal holds more than
+ * {@code compactionThreshold} changes, a new checkpoint is saved in the background, and the journal is started over
+ * with the changes saved since. Changes that cannot be journaled, such as a reordering of the persons, are saved as
+ * a new checkpoint at once. Reading the address book reads its checkpoint, and replays the changes in its journal.
+ * <p>
+ * The journal is a file of JSON lines beside the checkpoint. Its first line holds the checksum of the checkpoint it
+ * follows, so that a journal is never replayed over a checkpoint that was saved without it, and each other line holds
+ * the changes of one save, so that a save that was cut short is not replayed at all.
+ * <p>
+ * The address book should be saved by one thread at a time.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String NEW_FILE_SUFFIX = ".new";
+
+    static final String FIELD_CHECKPOINT = "checkpoint";
+    private static final String FIELD_UPDATED = "updated";
+    private static final String FIELD_DELETED = "deleted";
+    private static final String FIELD_ADDED = "added";
+    private static final String FIELD_INDEX = "index";
+    private static final String FIELD_PERSON = "person";
+    private static final String FIELD_ID = JsonAdaptedPerson.FIELD_ID;
+
+    private static final String MESSAGE_MALFORMED_CHANGES = "Malformed changes in journal";
+    private static final String MESSAGE_INCONSISTENT_CHANGES = "Changes in journal do not match the address book";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final AddressBookStorage checkpointStorage;
+    private final int compactionThreshold;
+    private final ExecutorService compactor;
+    private final Object journalLock = new Object();
+
+    /**
+     * The persons as last saved to, or read from, the address book file, or null if the next save is to be saved as
+     * a new checkpoint, as the journal does not follow on from them. As the list is persistent, keeping it takes O(1)
+     * time, and it shares all unchanged persons with the snapshots of the address book saved after it.
+     */
+    private PersistentPersonList savedPersons;
+    /** The IDs of {@code savedPersons}, which are all different. */
+    private Set<Long> savedIds;
+    /** The number of changes in the journal. */
+    private int journaledChangeCount;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    public JournaledAddressBookStorage(AddressBookStorage checkpointStorage) {
+        this(checkpointStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that saves its checkpoints with {@code checkpointStorage}, and
+     * compacts its journal into a new checkpoint once it holds more than {@code compactionThreshold} changes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage checkpointStorage, int compactionThreshold) {
+        requireNonNull(checkpointStorage);
+        checkArgument(compactionThreshold > 0, "The compaction threshold should be positive");
+        this.checkpointStorage = checkpointStorage;
+        this.compactionThreshold = compactionThreshold;
+        compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Address book compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return checkpointStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(getAddressBookFilePath());
+        if (isOwnFile) {
+            waitForCompaction();
+            savedPersons = null;
+        }
+
+        Optional<ReadOnlyAddressBook> checkpoint = checkpointStorage.readAddressBook(filePath);
+        if (!checkpoint.isPresent()) {
+            return Optional.empty();
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        Path newJournalPath = getNewFilePath(journalPath);
+        long checksum = getChecksum(filePath);
+        if (!isJournalOf(journalPath, checksum) && isJournalOf(newJournalPath, checksum)) {
+            logger.info("Completing the compaction of " + journalPath);
+            Files.move(newJournalPath, journalPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        PersistentPersonList persons = PersistentPersonList.of(checkpoint.get().getPersonList());
+        int changeCount = 0;
+        boolean isJournalReplayed = isJournalOf(journalPath, checksum);
+        if (isJournalReplayed) {
+            try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+                reader.readLine();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Changes changes = Changes.read(line);
+                    persons = changes.applyTo(persons);
+                    changeCount += changes.size();
+                }
+            } catch (IOException | IllegalValueException e) {
+                // the rest of the journal, such as a save that was cut short, cannot be replayed
+                logger.warning("Journal " + journalPath + " replayed up to an unreadable line: " + e.getMessage());
+                isJournalReplayed = false;
+            }
+        } else if (Files.exists(journalPath)) {
+            logger.warning("Journal " + journalPath + " does not follow " + filePath + " and is ignored");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons.toList());
+        } catch (DuplicatePersonException dpe) {
+            throw new DataConversionException(dpe);
+        }
+
+        if (isOwnFile && isJournalReplayed) {
+            Set<Long> ids = getIds(persons);
+            if (ids.size() == persons.size()) {
+                savedPersons = persons;
+                savedIds = ids;
+                synchronized (journalLock) {
+                    journaledChangeCount = changeCount;
+                }
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but saves to {@code filePath} only as a checkpoint,
+     * without a journal, if it is not the file path of this storage.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            checkpointStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        PersistentPersonList persons = toPersistentPersonList(addressBook);
+        Optional<Changes> changes = savedPersons == null ? Optional.empty()
+                : Changes.between(savedPersons, savedIds, persons);
+        if (!changes.isPresent()) {
+            saveCheckpoint(persons);
+            return;
+        }
+        if (changes.get().size() == 0) {
+            savedPersons = persons;
+            return;
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        long journalEnd;
+        int changeCount;
+        synchronized (journalLock) {
+            try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                writeFully(journal, changes.get().toJsonLine());
+                // the changes are only saved once they are on the disk, and not just in the cache of the file system
+                journal.force(false);
+                journalEnd = journal.size();
+            } catch (IOException ioe) {
+                // the journal may end with part of the changes, so nothing more can be appended to it
+                savedPersons = null;
+                throw ioe;
+            }
+            journaledChangeCount += changes.get().size();
+            changeCount = journaledChangeCount;
+        }
+        changes.get().updateIds(savedIds);
+        savedPersons = persons;
+
+        if (changeCount > compactionThreshold && compaction.isDone()) {
+            compaction = compactor.submit(() -> compactInBackground(persons, journalEnd, changeCount));
+        }
+    }
+
+    /**
+     * Saves {@code persons} as a new checkpoint, which the journal is started over from.
+     */
+    private void saveCheckpoint(PersistentPersonList persons) throws IOException {
+        waitForCompaction();
+        Set<Long> ids = getIds(persons);
+        Path journalPath = getJournalPath(getAddressBookFilePath());
+        long journalEnd = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+        compact(persons, journalEnd, 0);
+
+        // a journal cannot tell apart persons with the same ID, so their changes are saved as new checkpoints
+        boolean hasUniqueIds = ids.size() == persons.size();
+        savedPersons = hasUniqueIds ? persons : null;
+        savedIds = ids;
+        synchronized (journalLock) {
+            journaledChangeCount = 0;
+        }
+    }
+
+    /**
+     * Saves {@code persons}, which are the persons after the first {@code journalEnd} bytes and
+     * {@code compactedChangeCount} changes of the journal, as a new checkpoint, while the changes saved since may
+     * still be appended to the journal.
+     */
+    private void compactInBackground(PersistentPersonList persons, long journalEnd, int compactedChangeCount) {
+        try {
+            compact(persons, journalEnd, compactedChangeCount);
+            logger.fine("Compacted " + compactedChangeCount + " changes of the journal into a checkpoint");
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact the journal into a checkpoint: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Saves {@code persons}, which are the persons after the first {@code journalEnd} bytes of the journal, as a new
+     * checkpoint, and starts the journal over with the rest of its bytes.
+     * The checkpoint and the journal are first saved as new files beside the old ones, and then moved over them, so
+     * that if saving is cut short, the new journal is found beside the new checkpoint to be moved when it is read.
+     * Both new files are forced to the disk before they are moved, so that a crash cannot leave the moved files
+     * without their contents.
+     */
+    private void compact(PersistentPersonList persons, long journalEnd, int compactedChangeCount)
+            throws IOException {
+        Path checkpointPath = getAddressBookFilePath();
+        Path newCheckpointPath = getNewFilePath(checkpointPath);
+        Path journalPath = getJournalPath(checkpointPath);
+        Path newJournalPath = getNewFilePath(journalPath);
+
+        checkpointStorage.saveAddressBook(new AddressBookSnapshot(persons), newCheckpointPath);
+        try (FileChannel newCheckpoint = FileChannel.open(newCheckpointPath, StandardOpenOption.WRITE)) {
+            newCheckpoint.force(false);
+        }
+        byte[] header = toJsonLine(generator -> generator.writeNumberField(FIELD_CHECKPOINT,
+                getChecksum(newCheckpointPath)));
+
+        synchronized (journalLock) {
+            try (FileChannel newJournal = FileChannel.open(newJournalPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(newJournal, header);
+                if (Files.exists(journalPath)) {
+                    try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+                        long position = journalEnd;
+                        while (position < journal.size()) {
+                            position += journal.transferTo(position, journal.size() - position, newJournal);
+                        }
+                    }
+                }
+                newJournal.force(false);
+            }
+            Files.move(newCheckpointPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            Files.move(newJournalPath, journalPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            journaledChangeCount -= compactedChangeCount;
+        }
+    }
+
+    /**
+     * Waits until the compaction of the journal in the background, if any, has finished.
+     */
+    void waitForCompaction() {
+        try {
+            compaction.get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Failures to compact are handled in the background", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the path of the journal of the checkpoint at {@code checkpointPath}.
+     */
+    static Path getJournalPath(Path checkpointPath) {
+        return checkpointPath.resolveSibling(checkpointPath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getNewFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + NEW_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of {@code file}.
+     */
+    static long getChecksum(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns true if {@code journalPath} is a journal that follows the checkpoint with {@code checksum}.
+     */
+    private static boolean isJournalOf(Path journalPath, long checksum) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+        String header;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            header = reader.readLine();
+        }
+        if (header == null) {
+            return false;
+        }
+        try (JsonParser parser = jsonFactory.createParser(header)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && parser.getCurrentName().equals(FIELD_CHECKPOINT)
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT
+                    && parser.getLongValue() == checksum;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    private static Set<Long> getIds(PersistentPersonList persons) {
+        Set<Long> ids = new HashSet<>();
+        persons.forEach(person -> ids.add(person.getId()));
+        return ids;
+    }
+
+    /**
+     * Returns the persons of {@code addressBook}, which are taken as they are, in O(1) time, if it is a snapshot.
+     */
+    private static PersistentPersonList toPersistentPersonList(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return ((AddressBookSnapshot) addressBook).getPersons();
+        }
+        return PersistentPersonList.of(addressBook.getPersonList());
+    }
+
+    /**
+     * Writes all of {@code bytes} to {@code channel}.
+     */
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns a line holding a JSON object with the fields written by {@code fieldsWriter}.
+     */
+    private static byte[] toJsonLine(FieldsWriter fieldsWriter) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            fieldsWriter.write(generator);
+            generator.writeEndObject();
+        }
+        writer.write('\n');
+        return writer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes fields of a JSON object.
+     */
+    @FunctionalInterface
+    private interface FieldsWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * The changes to the persons made by one save: the persons updated and deleted, by their positions before the
+     * save, and the persons added, by their positions after the save. The updates are made before the deletions,
+     * which are made before the additions.
+     */
+    private static class Changes {
+        private final List<Integer> updatedIndexes = new ArrayList<>();
+        private final List<Person> updatedPersons = new ArrayList<>();
+        private final List<Integer> deletedIndexes = new ArrayList<>();
+        private final List<Long> deletedIds = new ArrayList<>();
+        private final List<Integer> addedIndexes = new ArrayList<>();
+        private final List<Person> addedPersons = new ArrayList<>();
+
+        /**
+         * Returns the changes that turn {@code oldPersons}, whose IDs are {@code oldIds}, into {@code newPersons}, or
+         * an empty {@code Optional} if the persons kept are reordered or {@code newPersons} has persons with the same
+         * ID, and the changes cannot be journaled.
+         * Only the persons between the longest common start and end of both lists are compared by their IDs, and the
+         * common start and end are found by skipping over the subtrees that both lists share, so that the changes
+         * are found in time proportional to the number of persons changed rather than the number of persons.
+         */
+        static Optional<Changes> between(PersistentPersonList oldPersonList, Set<Long> oldIds,
+                PersistentPersonList newPersonList) {
+            int start = oldPersonList.getCommonPrefixLength(newPersonList);
+            int commonEndLength = oldPersonList.getCommonSuffixLength(newPersonList,
+                    Math.min(oldPersonList.size(), newPersonList.size()) - start);
+            int oldEnd = oldPersonList.size() - commonEndLength;
+            int newEnd = newPersonList.size() - commonEndLength;
+            // the persons in between are indexed from start
+            List<Person> oldPersons = oldPersonList.subList(start, oldEnd);
+            List<Person> newPersons = newPersonList.subList(start, newEnd);
+
+            Map<Long, Integer> oldPositions = new HashMap<>();
+            for (int i = start; i < oldEnd; i++) {
+                oldPositions.put(oldPersons.get(i - start).getId(), i);
+            }
+            Map<Long, Integer> newPositions = new HashMap<>();
+            for (int i = start; i < newEnd; i++) {
+                long id = newPersons.get(i - start).getId();
+                boolean isIdTaken = newPositions.put(id, i) != null
+                        || (oldIds.contains(id) && !oldPositions.containsKey(id));
+                if (isIdTaken) {
+                    return Optional.empty();
+                }
+            }
+
+            Changes changes = new Changes();
+            int lastKeptPosition = -1;
+            for (int i = start; i < oldEnd; i++) {
+                Person oldPerson = oldPersons.get(i - start);
+                Integer newPosition = newPositions.get(oldPerson.getId());
+                if (newPosition == null) {
+                    changes.deletedIndexes.add(i);
+                    changes.deletedIds.add(oldPerson.getId());
+                    continue;
+                }
+                if (newPosition < lastKeptPosition) {
+                    return Optional.empty();
+                }
+                lastKeptPosition = newPosition;
+                Person newPerson = newPersons.get(newPosition - start);
+                if (!newPerson.equals(oldPerson)) {
+                    changes.updatedIndexes.add(i);
+                    changes.updatedPersons.add(newPerson);
+                }
+            }
+            for (int i = start; i < newEnd; i++) {
+                Person newPerson = newPersons.get(i - start);
+                if (!oldPositions.containsKey(newPerson.getId())) {
+                    changes.addedIndexes.add(i);
+                    changes.addedPersons.add(newPerson);
+                }
+            }
+            return Optional.of(changes);
+        }
+
+        /**
+         * Returns the number of persons changed.
+         */
+        int size() {
+            return updatedIndexes.size() + deletedIndexes.size() + addedIndexes.size();
+        }
+
+        /**
+         * Returns {@code persons} with these changes made.
+         * @throws IllegalValueException if a person updated or deleted is not at its position in {@code persons}.
+         */
+        PersistentPersonList applyTo(PersistentPersonList persons) throws IllegalValueException {
+            for (int i = 0; i < updatedIndexes.size(); i++) {
+                int index = updatedIndexes.get(i);
+                checkChangedPerson(persons, index, updatedPersons.get(i).getId());
+                persons = persons.set(index, updatedPersons.get(i));
+            }
+            for (int i = deletedIndexes.size() - 1; i >= 0; i--) {
+                int index = deletedIndexes.get(i);
+                checkChangedPerson(persons, index, deletedIds.get(i));
+                persons = persons.remove(index);
+            }
+            for (int i = 0; i < addedIndexes.size(); i++) {
+                int index = addedIndexes.get(i);
+                if (index < 0 || index > persons.size()) {
+                    throw new IllegalValueException(MESSAGE_INCONSISTENT_CHANGES);
+                }
+                persons = persons.add(index, addedPersons.get(i));
+            }
+            return persons;
+        }
+
+        private static void checkChangedPerson(PersistentPersonList persons, int index, long id)
+                throws IllegalValueException {
+            if (index < 0 || index >= persons.size() || persons.get(index).getId() != id) {
+                throw new IllegalValueException(MESSAGE_INCONSISTENT_CHANGES);
+            }
+        }
+
+        /**
+         * Updates {@code ids} from the IDs of the persons before these changes to those after them.
+         */
+        void updateIds(Set<Long> ids) {
+            ids.removeAll(deletedIds);
+            addedPersons.forEach(person -> ids.add(person.getId()));
+        }
+
+        /**
+         * Returns these changes as a line of JSON.
+         */
+        byte[] toJsonLine() throws IOException {
+            return JournaledAddressBookStorage.toJsonLine(generator -> {
+                generator.writeArrayFieldStart(FIELD_UPDATED);
+                for (int i = 0; i < updatedIndexes.size(); i++) {
+                    generator.writeStartObject();
+                    generator.writeNumberField(FIELD_INDEX, updatedIndexes.get(i));
+                    generator.writeFieldName(FIELD_PERSON);
+                    JsonAdaptedPerson.write(generator, updatedPersons.get(i), true);
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart(FIELD_DELETED);
+                for (int i = 0; i < deletedIndexes.size(); i++) {
+                    generator.writeStartObject();
+                    generator.writeNumberField(FIELD_INDEX, deletedIndexes.get(i));
+                    generator.writeNumberField(FIELD_ID, deletedIds.get(i));
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart(FIELD_ADDED);
+                for (int i = 0; i < addedIndexes.size(); i++) {
+                    generator.writeStartObject();
+                    generator.writeNumberField(FIELD_INDEX, addedIndexes.get(i));
+                    generator.writeFieldName(FIELD_PERSON);
+                    JsonAdaptedPerson.write(generator, addedPersons.get(i), true);
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            });
+        }
+
+        /**
+         * Returns the changes in {@code line} of a journal.
+         * @throws IOException if the line is not valid JSON.
+         * @throws IllegalValueException if the line does not hold valid changes.
+         */
+        static Changes read(String line) throws IOException, IllegalValueException {
+            Changes changes = new Changes();
+            try (JsonParser parser = jsonFactory.createParser(line)) {
+                expect(parser.nextToken(), JsonToken.START_OBJECT);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.getCurrentName();
+                    expect(parser.nextToken(), JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readChange(parser, fieldName, changes);
+                    }
+                }
+            }
+            return changes;
+        }
+
+        /**
+         * Reads the change of one person, whose object has just been started by {@code parser}, into the changes of
+         * {@code fieldName} in {@code changes}.
+         */
+        private static void readChange(JsonParser parser, String fieldName, Changes changes)
+                throws IOException, IllegalValueException {
+            Integer index = null;
+            Long id = null;
+            Person person = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String changeFieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (changeFieldName) {
+                case FIELD_INDEX:
+                    index = parser.getIntValue();
+                    break;
+                case FIELD_ID:
+                    id = parser.getLongValue();
+                    break;
+                case FIELD_PERSON:
+                    person = readPerson(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+
+            if (index == null) {
+                throw new IllegalValueException(MESSAGE_MALFORMED_CHANGES);
+            }
+            if (fieldName.equals(FIELD_DELETED) && id != null) {
+                changes.deletedIndexes.add(index);
+                changes.deletedIds.add(id);
+            } else if (fieldName.equals(FIELD_UPDATED) && person != null) {
+                changes.updatedIndexes.add(index);
+                changes.updatedPersons.add(person);
+            } else if (fieldName.equals(FIELD_ADDED) && person != null) {
+                changes.addedIndexes.add(index);
+                changes.addedPersons.add(person);
+            } else {
+                throw new IllegalValueException(MESSAGE_MALFORMED_CHANGES);
+            }
+        }
+
+        /**
+         * Reads the person, with its ID, whose object is the current token of {@code parser}.
+         */
+        private static Person readPerson(JsonParser parser) throws IOException, IllegalValueException {
+            expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+            JsonAdaptedPerson person = JsonAdaptedPerson.read(parser);
+            // the changes to a person are only found by its ID
+            if (person.getId() == null) {
+                throw new IllegalValueException(MESSAGE_MALFORMED_CHANGES);
+            }
+            return person.toModelType();
+        }
+
+        /**
+         * Throws an {@code IllegalValueException} if {@code token} is not {@code expectedToken}.
+         */
+        private static void expect(JsonToken token, JsonToken expectedToken) throws IllegalValueException {
+            if (token != expectedToken) {
+                throw new IllegalValueException(MESSAGE_MALFORMED_CHANGES);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The JSON object of a person, which is shared by the json data file, the journal of the address book, and json
+ * contacts files.
+ * The object has the fields given by the {@code FIELD_} constants. The tags of a person are an array of tag names.
+ * Other fields are ignored.
+ */
+class JsonAdaptedPerson {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_NAME = "name";
+    static final String FIELD_PHONE = "phone";
+    static final String FIELD_EMAIL = "email";
+    static final String FIELD_ADDRESS = "address";
+    static final String FIELD_TAGS = "tags";
+
+    static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+
+    /** The ID of the person, or null if the object has no valid ID, and the person is to be given a new one. */
+    private Long id;
+    private String name;
+    private String phone;
+    private String email;
+    private String address;
+    private final List<String> tags = new ArrayList<>();
+
+    private JsonAdaptedPerson() {}
+
+    /**
+     * Returns the person whose object {@code parser} is at the start of, and reads up to the end of the object.
+     * Fields that are missing from the object are null.
+     * @throws IOException if the object is not valid JSON.
+     */
+    static JsonAdaptedPerson read(JsonParser parser) throws IOException {
+        assert parser.getCurrentToken() == JsonToken.START_OBJECT;
+        JsonAdaptedPerson person = new JsonAdaptedPerson();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+            case FIELD_ID:
+                if (token == JsonToken.VALUE_NUMBER_INT
+                        && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                    person.id = parser.getLongValue();
+                }
+                break;
+            case FIELD_NAME:
+                person.name = parser.getValueAsString();
+                break;
+            case FIELD_PHONE:
+                person.phone = parser.getValueAsString();
+                break;
+            case FIELD_EMAIL:
+                person.email = parser.getValueAsString();
+                break;
+            case FIELD_ADDRESS:
+                person.address = parser.getValueAsString();
+                break;
+            case FIELD_TAGS:
+                if (token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        String tagName = parser.getValueAsString();
+                        if (tagName != null) {
+                            person.tags.add(tagName);
+                        }
+                        parser.skipChildren();
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+            parser.skipChildren();
+        }
+        return person;
+    }
+
+    /**
+     * Writes the object of {@code person}, with its tags sorted by name, and with its ID if {@code isIdWritten}.
+     */
+    static void write(JsonGenerator generator, Person person, boolean isIdWritten) throws IOException {
+        generator.writeStartObject();
+        if (isIdWritten) {
+            generator.writeNumberField(FIELD_ID, person.getId());
+        }
+        generator.writeStringField(FIELD_NAME, person.getName().fullName);
+        generator.writeStringField(FIELD_PHONE, person.getPhone().value);
+        generator.writeStringField(FIELD_EMAIL, person.getEmail().value);
+        generator.writeStringField(FIELD_ADDRESS, person.getAddress().value);
+        generator.writeArrayFieldStart(FIELD_TAGS);
+        for (String tagName : ContactWriter.getSortedTagNames(person)) {
+            generator.writeString(tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns the ID of the person, or null if it has none.
+     */
+    Long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the details of the person as a {@code ContactRecord} that starts at line {@code lineNumber}.
+     */
+    ContactRecord toContactRecord(int lineNumber) {
+        return new ContactRecord(lineNumber, name, phone, email, address, tags);
+    }
+
+    /**
+     * Converts this JSON-friendly person into the model's {@code Person} object, which is given a new ID if it has
+     * none.
+     * @throws IllegalValueException if there were any data constraints violated in the person.
+     */
+    Person toModelType() throws IllegalValueException {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (String tagName : tags) {
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+            modelTags.add(new Tag(tagName));
+        }
+
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        final Name modelName = new Name(name);
+
+        if (phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        }
+        final Phone modelPhone = new Phone(phone);
+
+        if (email == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_EMAIL_CONSTRAINTS);
+        }
+        final Email modelEmail = new Email(email);
+
+        if (address == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
+        }
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
+        }
+        final Address modelAddress = new Address(address);
+
+        if (id == null) {
+            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        }
+        return new Person(id, modelName, modelPhone, modelEmail, modelAddress, modelTags);
+    }
+}
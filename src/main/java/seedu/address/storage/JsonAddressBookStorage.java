@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The file holds an object whose {@code FIELD_PERSONS} field is an array with one object per person, in the format
+ * of {@link JsonAdaptedPerson}. Other fields are ignored. The file is parsed and generated one token at a time,
+ * without building up the persons in memory first.
+ */
+public class JsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String FIELD_PERSONS = "persons";
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "The JSON file does not hold an address book";
+    public static final String MESSAGE_NOT_A_PERSON = "A person in the JSON file is not a JSON object";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private Path filePath;
+
+    public JsonAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = jsonFactory.createParser(in)) {
+            return Optional.of(parseAddressBook(parser));
+        } catch (JsonProcessingException jpe) {
+            throw new DataConversionException(jpe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the address book that {@code parser} is at the start of.
+     * @throws JsonParseException if the JSON does not hold an address book.
+     * @throws IllegalValueException if a person has invalid or missing fields, or there are duplicate persons.
+     */
+    private static AddressBook parseAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && fieldName.equals(FIELD_PERSONS)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    Person person = parsePerson(parser);
+                    if (addressBook.hasPerson(person)) {
+                        throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(person);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the person whose object {@code parser} is at the start of, and reads up to the end of the object.
+     */
+    private static Person parsePerson(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_A_PERSON);
+        }
+        return JsonAdaptedPerson.read(parser).toModelType();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = Files.newOutputStream(filePath);
+                JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FIELD_PERSONS);
+            for (Person person : addressBook.getPersonList()) {
+                JsonAdaptedPerson.write(generator, person, true);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
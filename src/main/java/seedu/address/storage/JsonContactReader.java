@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Reads contacts from a JSON file, one object at a time.
+ * The file holds an array of objects, each in the format of {@link JsonAdaptedPerson}, whose IDs are ignored.
+ */
+public class JsonContactReader implements ContactReader {
+
+    public static final String MESSAGE_NOT_AN_ARRAY = "The JSON file does not hold an array of contacts";
+    public static final String MESSAGE_NOT_AN_OBJECT = "The contact at line %1$d is not a JSON object";
+
+    private final JsonParser parser;
+
+    /** Whether the start of the array of contacts has been read. */
+    private boolean hasStarted;
+
+    /**
+     * Creates a {@code JsonContactReader} that reads from {@code reader}.
+     * @throws IOException if the parser could not be created.
+     */
+    public JsonContactReader(Reader reader) throws IOException {
+        requireNonNull(reader);
+        parser = new JsonFactory().createParser(reader);
+    }
+
+    @Override
+    public Optional<ContactRecord> read() throws IOException {
+        if (!hasStarted) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException(MESSAGE_NOT_AN_ARRAY);
+            }
+            hasStarted = true;
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            return Optional.empty();
+        }
+        int lineNumber = parser.getCurrentLocation().getLineNr();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException(String.format(MESSAGE_NOT_AN_OBJECT, lineNumber));
+        }
+        return Optional.of(JsonAdaptedPerson.read(parser).toContactRecord(lineNumber));
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to a JSON file, in the format read by {@link JsonContactReader}.
+ * The file holds an array with one object per person, which is generated as each person is written rather than
+ * built up in memory first.
+ */
+public class JsonContactWriter implements ContactWriter {
+
+    private final JsonGenerator generator;
+
+    /**
+     * Creates a {@code JsonContactWriter} that writes to {@code writer}, and starts the array of persons in it.
+     * @throws IOException if the start of the array could not be written.
+     */
+    public JsonContactWriter(Writer writer) throws IOException {
+        requireNonNull(writer);
+        generator = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter();
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        JsonAdaptedPerson.write(generator, person, false);
+    }
+
+    /**
+     * Ends the array of persons, and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            generator.writeEndArray();
+        } finally {
+            generator.close();
+        }
+    }
+}
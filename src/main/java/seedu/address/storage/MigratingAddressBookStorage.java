@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored by another {@code AddressBookStorage}, which migrates the data from the
+ * data file of an older storage, such as one in another format, when its own data file does not exist yet.
+ * <p>
+ * The address book read from the old data file is saved to the new data file, which is read from then on. The old
+ * data file is never written to, so that the data in it is still there if the old storage is used again.
+ */
+public class MigratingAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MigratingAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final AddressBookStorage oldStorage;
+
+    /**
+     * Creates a {@code MigratingAddressBookStorage} that reads and saves with {@code storage}, and migrates the data
+     * file of {@code oldStorage} if the data file of {@code storage} does not exist yet.
+     */
+    public MigratingAddressBookStorage(AddressBookStorage storage, AddressBookStorage oldStorage) {
+        requireNonNull(storage);
+        requireNonNull(oldStorage);
+        this.storage = storage;
+        this.oldStorage = oldStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but migrates the old data file only if {@code filePath} is the file path
+     * of this storage.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Path oldFilePath = oldStorage.getAddressBookFilePath();
+        boolean isMigrated = !filePath.equals(getAddressBookFilePath()) || filePath.equals(oldFilePath)
+                || Files.exists(filePath) || !Files.exists(oldFilePath);
+        if (isMigrated) {
+            return storage.readAddressBook(filePath);
+        }
+
+        logger.info("Migrating AddressBook file " + oldFilePath + " to " + filePath);
+        Optional<ReadOnlyAddressBook> addressBook = oldStorage.readAddressBook();
+        if (addressBook.isPresent()) {
+            storage.saveAddressBook(addressBook.get(), filePath);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+}
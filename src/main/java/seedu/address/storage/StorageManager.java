@@ -1,8 +1,15 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,11 +19,16 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * The address book may be saved behind the changes to it: rather than being saved on the thread that raised each
+ * {@code AddressBookChangedEvent}, the latest address book is saved on a dedicated saver thread at most
+ * {@code maxSaveDelay} milliseconds after it changed, so that a burst of changes is saved only once.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -24,11 +36,34 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long maxSaveDelay;
+    private final ScheduledExecutorService saver;
+    /** The latest changed address book that is yet to be saved, or null if every change has been saved. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
 
+    /**
+     * Creates a StorageManager that saves the address book as soon as it changes, on the thread that raised the change.
+     */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a StorageManager that saves the address book on a saver thread at most {@code maxSaveDelay} milliseconds
+     * after it changed, or as soon as it changes, on the thread that raised the change, if {@code maxSaveDelay} is 0.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            long maxSaveDelay) {
         super();
+        checkArgument(maxSaveDelay >= 0, "The save delay should not be negative");
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.maxSaveDelay = maxSaveDelay;
+        saver = maxSaveDelay == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Address book saver");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -79,12 +114,53 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    @Override
+    public void flushAddressBook() {
+        if (saver == null) {
+            return;
+        }
+        try {
+            saver.submit(this::savePendingAddressBook).get();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saver == null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+            saveChangedAddressBook(event.data);
+            return;
+        }
+
+        // a save is already scheduled if an earlier change is pending, and will save this change instead
+        if (pendingAddressBook.getAndSet(event.data) == null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file in "
+                    + maxSaveDelay + "ms"));
+            saver.schedule(this::savePendingAddressBook, maxSaveDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the latest changed address book, if it is yet to be saved.
+     */
+    private void savePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        if (addressBook != null) {
+            saveChangedAddressBook(addressBook);
+        }
+    }
+
+    /**
+     * Saves the changed {@code addressBook}, and raises a {@code DataSavingExceptionEvent} if it cannot be saved.
+     */
+    private void saveChangedAddressBook(ReadOnlyAddressBook addressBook) {
         try {
-            saveAddressBook(event.data);
+            saveAddressBook(addressBook);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
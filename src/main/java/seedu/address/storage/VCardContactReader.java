@@ -0,0 +1,203 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Reads contacts from a vCard file, one card at a time.
+ * The name of a contact is read from the {@code FN} property of its card, or from its {@code N} property if it has no
+ * {@code FN}. Its phone, email and address are read from the first {@code TEL}, {@code EMAIL} and {@code ADR}
+ * properties, and its tags from its {@code CATEGORIES} properties. Other properties are ignored.
+ */
+public class VCardContactReader implements ContactReader {
+
+    public static final String MESSAGE_UNTERMINATED_CARD = "The vCard starting at line %1$d has no END:VCARD";
+
+    private static final String BEGIN_CARD = "BEGIN:VCARD";
+    private static final String END_CARD = "END:VCARD";
+
+    private final BufferedReader reader;
+
+    /** The next line to be read, which has been read ahead to find the lines folded into the line before it. */
+    private String nextLine;
+
+    /** The number of lines read so far, including {@code nextLine}. */
+    private int lineNumber;
+
+    /** The line number at which the last unfolded line read starts. */
+    private int unfoldedLineNumber;
+
+    public VCardContactReader(BufferedReader reader) {
+        this.reader = requireNonNull(reader);
+    }
+
+    @Override
+    public Optional<ContactRecord> read() throws IOException {
+        String line;
+        do {
+            line = readUnfoldedLine();
+            if (line == null) {
+                return Optional.empty();
+            }
+        } while (!line.trim().equalsIgnoreCase(BEGIN_CARD));
+        int cardLineNumber = unfoldedLineNumber;
+
+        String formattedName = null;
+        String structuredName = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<String> tags = new ArrayList<>();
+        while (!(line = readCardLine(cardLineNumber)).trim().equalsIgnoreCase(END_CARD)) {
+            int valueStart = line.indexOf(':');
+            if (valueStart < 0) {
+                continue;
+            }
+            String value = line.substring(valueStart + 1);
+            switch (getPropertyName(line.substring(0, valueStart))) {
+            case "FN":
+                formattedName = formattedName == null ? unescape(value) : formattedName;
+                break;
+            case "N":
+                structuredName = structuredName == null ? toFullName(splitComponents(value, ';')) : structuredName;
+                break;
+            case "TEL":
+                phone = phone == null ? unescape(value) : phone;
+                break;
+            case "EMAIL":
+                email = email == null ? unescape(value) : email;
+                break;
+            case "ADR":
+                address = address == null ? toAddress(splitComponents(value, ';')) : address;
+                break;
+            case "CATEGORIES":
+                splitComponents(value, ',').stream().map(String::trim).filter(tag -> !tag.isEmpty())
+                        .forEach(tags::add);
+                break;
+            default:
+                break;
+            }
+        }
+        return Optional.of(new ContactRecord(cardLineNumber, formattedName == null ? structuredName : formattedName,
+                phone, email, address, tags));
+    }
+
+    /**
+     * Returns the next unfolded line of the card starting at line {@code cardLineNumber}.
+     * @throws IOException if the file ends before the card does.
+     */
+    private String readCardLine(int cardLineNumber) throws IOException {
+        String line = readUnfoldedLine();
+        if (line == null) {
+            throw new IOException(String.format(MESSAGE_UNTERMINATED_CARD, cardLineNumber));
+        }
+        return line;
+    }
+
+    /**
+     * Returns the next line, with the lines folded into it joined back on, or null at the end of the file.
+     * A line that starts with a space or tab is folded into the line before it.
+     */
+    private String readUnfoldedLine() throws IOException {
+        String line = nextLine == null ? readLine() : nextLine;
+        if (line == null) {
+            return null;
+        }
+        unfoldedLineNumber = lineNumber;
+        StringBuilder unfoldedLine = new StringBuilder(line);
+        while ((nextLine = readLine()) != null && !nextLine.isEmpty()
+                && (nextLine.charAt(0) == ' ' || nextLine.charAt(0) == '\t')) {
+            unfoldedLine.append(nextLine, 1, nextLine.length());
+        }
+        return unfoldedLine.toString();
+    }
+
+    /**
+     * Returns the next line as it is in the file, or null at the end of the file.
+     */
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    /**
+     * Returns the upper case name of the property in {@code nameAndParameters}, without its group or parameters.
+     * e.g. {@code TEL} in {@code item1.TEL;TYPE=cell}.
+     */
+    private static String getPropertyName(String nameAndParameters) {
+        int parametersStart = nameAndParameters.indexOf(';');
+        String name = parametersStart < 0 ? nameAndParameters : nameAndParameters.substring(0, parametersStart);
+        return name.substring(name.lastIndexOf('.') + 1).trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the full name given by the components of an {@code N} property, which start with the family name,
+     * followed by the given name.
+     */
+    private static String toFullName(List<String> components) {
+        String familyName = components.get(0).trim();
+        String givenName = components.size() > 1 ? components.get(1).trim() : "";
+        return (givenName + " " + familyName).trim();
+    }
+
+    /**
+     * Returns the address given by the non-empty components of an {@code ADR} property, separated by commas.
+     */
+    private static String toAddress(List<String> components) {
+        return components.stream()
+                .map(String::trim)
+                .filter(component -> !component.isEmpty())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Splits {@code value} on each {@code separator} that is not escaped with a backslash, and unescapes each part.
+     */
+    private static List<String> splitComponents(String value, char separator) {
+        List<String> components = new ArrayList<>();
+        int componentStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '\\') {
+                i++;
+            } else if (value.charAt(i) == separator) {
+                components.add(unescape(value.substring(componentStart, i)));
+                componentStart = i + 1;
+            }
+        }
+        components.add(unescape(value.substring(componentStart)));
+        return components;
+    }
+
+    /**
+     * Returns {@code value} with its backslash escapes replaced by the characters they stand for.
+     * An escaped line break is replaced by a space, as the fields of a person are single lines.
+     */
+    private static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? ' ' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
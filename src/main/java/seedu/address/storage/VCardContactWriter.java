@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to a vCard 3.0 file, one card per person, in the format read by {@link VCardContactReader}.
+ * The address of a person is written as the street of their {@code ADR} property, and their tags as
+ * {@code CATEGORIES}.
+ */
+public class VCardContactWriter implements ContactWriter {
+
+    /** The maximum length of a line, beyond which it is folded onto the next line. */
+    private static final int MAX_LINE_LENGTH = 75;
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    public VCardContactWriter(Writer writer) {
+        this.writer = requireNonNull(writer);
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        String name = person.getName().fullName;
+        int familyNameStart = name.lastIndexOf(' ') + 1;
+
+        writeLine("BEGIN:VCARD");
+        writeLine("VERSION:3.0");
+        writeLine("FN:" + escape(name));
+        writeLine("N:" + escape(name.substring(familyNameStart)) + ";"
+                + escape(name.substring(0, familyNameStart).trim()) + ";;;");
+        writeLine("TEL:" + escape(person.getPhone().value));
+        writeLine("EMAIL:" + escape(person.getEmail().value));
+        writeLine("ADR:;;" + escape(person.getAddress().value) + ";;;;");
+        if (!person.getTags().isEmpty()) {
+            writeLine("CATEGORIES:" + ContactWriter.getSortedTagNames(person).stream()
+                    .map(VCardContactWriter::escape)
+                    .collect(Collectors.joining(",")));
+        }
+        writeLine("END:VCARD");
+    }
+
+    /**
+     * Writes {@code line}, folding it into lines of at most {@code MAX_LINE_LENGTH} characters.
+     * A line is never folded in the middle of a surrogate pair.
+     */
+    private void writeLine(String line) throws IOException {
+        int start = 0;
+        int maxLength = MAX_LINE_LENGTH;
+        do {
+            int end = Math.min(line.length(), start + maxLength);
+            if (end < line.length() && Character.isHighSurrogate(line.charAt(end - 1))) {
+                end--;
+            }
+            if (start > 0) {
+                writer.write(' ');
+            }
+            writer.write(line, start, end - start);
+            writer.write(LINE_SEPARATOR);
+            start = end;
+            // each folded line starts with a space, which leaves room for one less character
+            maxLength = MAX_LINE_LENGTH - 1;
+        } while (start < line.length());
+    }
+
+    /**
+     * Returns {@code value} with the characters that separate the parts of a property value escaped with a
+     * backslash.
+     */
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == ',' || c == ';') {
+                escaped.append('\\').append(c);
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else if (c != '\r') {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
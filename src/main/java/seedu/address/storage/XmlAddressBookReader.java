@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book from XML in the format of {@link XmlSerializableAddressBook}, converting each person as
+ * soon as its element has been read, rather than reading the whole document into adapted persons first.
+ * Unknown elements and attributes are skipped, as they are when the XML is unmarshalled.
+ */
+public class XmlAddressBookReader {
+
+    public static final String ELEMENT_ADDRESS_BOOK = "addressbook";
+    public static final String ELEMENT_PERSON = "persons";
+    public static final String ATTRIBUTE_ID = "id";
+    public static final String ELEMENT_NAME = "name";
+    public static final String ELEMENT_PHONE = "phone";
+    public static final String ELEMENT_EMAIL = "email";
+    public static final String ELEMENT_ADDRESS = "address";
+    public static final String ELEMENT_TAG = "tagged";
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "The XML document does not hold an address book";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    /**
+     * Returns the address book read from {@code in}.
+     * @throws XMLStreamException if {@code in} does not hold a well-formed XML address book.
+     * @throws IllegalValueException if a person has invalid or missing fields, or there are duplicate persons.
+     */
+    public static AddressBook read(InputStream in) throws XMLStreamException, IllegalValueException {
+        requireNonNull(in);
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+        try {
+            reader.nextTag();
+            if (!reader.getLocalName().equals(ELEMENT_ADDRESS_BOOK)) {
+                throw new XMLStreamException(MESSAGE_NOT_AN_ADDRESS_BOOK, reader.getLocation());
+            }
+
+            AddressBook addressBook = new AddressBook();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if (!reader.getLocalName().equals(ELEMENT_PERSON)) {
+                    skipElement(reader);
+                    continue;
+                }
+                Person person = readPerson(reader);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return addressBook;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the person whose element has just been started by {@code reader}, up to the end of the element.
+     */
+    private static Person readPerson(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        Long id = parseId(reader.getAttributeValue(null, ATTRIBUTE_ID));
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ELEMENT_NAME:
+                name = reader.getElementText();
+                break;
+            case ELEMENT_PHONE:
+                phone = reader.getElementText();
+                break;
+            case ELEMENT_EMAIL:
+                email = reader.getElementText();
+                break;
+            case ELEMENT_ADDRESS:
+                address = reader.getElementText();
+                break;
+            case ELEMENT_TAG:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedPerson(id, name, phone, email, address, tagged).toModelType();
+    }
+
+    /**
+     * Returns the ID in {@code value}, or null if there is no valid ID, and the person is to be given a new one.
+     */
+    private static Long parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Skips the element that has just been started by {@code reader}, up to the end of the element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns a factory of readers that do not resolve DTDs or external entities, which a saved address book has none
+     * of.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
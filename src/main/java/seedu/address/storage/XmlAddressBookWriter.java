@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.XmlAddressBookReader.ATTRIBUTE_ID;
+import static seedu.address.storage.XmlAddressBookReader.ELEMENT_ADDRESS;
+import static seedu.address.storage.XmlAddressBookReader.ELEMENT_ADDRESS_BOOK;
+import static seedu.address.storage.XmlAddressBookReader.ELEMENT_EMAIL;
+import static seedu.address.storage.XmlAddressBookReader.ELEMENT_NAME;
+import static seedu.address.storage.XmlAddressBookReader.ELEMENT_PERSON;
+import static seedu.address.storage.XmlAddressBookReader.ELEMENT_PHONE;
+import static seedu.address.storage.XmlAddressBookReader.ELEMENT_TAG;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book as XML, one person at a time, rather than building up adapted persons in memory first.
+ * The XML is the same, byte for byte, as that marshalled from a {@link XmlSerializableAddressBook} of the address
+ * book as formatted output: the same declaration, an indent of four spaces per level, line feeds, and only
+ * {@code &}, {@code <} and {@code >} escaped in text.
+ */
+public class XmlAddressBookWriter {
+
+    static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+    private static final String NEW_LINE = "\n";
+
+    /**
+     * Writes {@code addressBook} to {@code writer}, which is expected to encode characters in UTF-8.
+     */
+    public static void write(Writer writer, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(addressBook);
+
+        writer.write(DECLARATION);
+        writer.write(NEW_LINE);
+        List<Person> persons = addressBook.getPersonList();
+        if (persons.isEmpty()) {
+            writer.write("<" + ELEMENT_ADDRESS_BOOK + "/>" + NEW_LINE);
+            return;
+        }
+
+        writer.write("<" + ELEMENT_ADDRESS_BOOK + ">" + NEW_LINE);
+        for (Person person : persons) {
+            writePerson(writer, person);
+        }
+        writer.write("</" + ELEMENT_ADDRESS_BOOK + ">" + NEW_LINE);
+    }
+
+    /**
+     * Writes the element of {@code person}.
+     */
+    private static void writePerson(Writer writer, Person person) throws IOException {
+        writer.write(INDENT + "<" + ELEMENT_PERSON + " " + ATTRIBUTE_ID + "=\"" + person.getId() + "\">" + NEW_LINE);
+        writeTextElement(writer, ELEMENT_NAME, person.getName().fullName);
+        writeTextElement(writer, ELEMENT_PHONE, person.getPhone().value);
+        writeTextElement(writer, ELEMENT_EMAIL, person.getEmail().value);
+        writeTextElement(writer, ELEMENT_ADDRESS, person.getAddress().value);
+        for (Tag tag : person.getTags()) {
+            writeTextElement(writer, ELEMENT_TAG, tag.tagName);
+        }
+        writer.write(INDENT + "</" + ELEMENT_PERSON + ">" + NEW_LINE);
+    }
+
+    /**
+     * Writes an element of a person, named {@code elementName} and holding {@code text}.
+     */
+    private static void writeTextElement(Writer writer, String elementName, String text) throws IOException {
+        writer.write(INDENT + INDENT + "<" + elementName + ">");
+        writeEscaped(writer, text);
+        writer.write("</" + elementName + ">" + NEW_LINE);
+    }
+
+    /**
+     * Writes {@code text} with the characters that would otherwise be read as markup escaped.
+     */
+    private static void writeEscaped(Writer writer, String text) throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String escaped;
+            switch (text.charAt(i)) {
+            case '&':
+                escaped = "&amp;";
+                break;
+            case '<':
+                escaped = "&lt;";
+                break;
+            case '>':
+                escaped = "&gt;";
+                break;
+            default:
+                continue;
+            }
+            writer.write(text, start, i - start);
+            writer.write(escaped);
+            start = i + 1;
+        }
+        writer.write(text, start, text.length() - start);
+    }
+}
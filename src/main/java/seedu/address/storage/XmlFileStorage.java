@@ -1,12 +1,21 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Stores addressbook data in an XML file
@@ -36,4 +45,34 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Saves the given address book to the specified file, one person at a time, in the same format as
+     * {@link #saveDataToFile(Path, XmlSerializableAddressBook)}.
+     */
+    public static void saveAddressBookToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            XmlAddressBookWriter.write(writer, addressBook);
+        }
+    }
+
+    /**
+     * Returns the address book in the file, converting one person at a time.
+     * @throws DataConversionException if the file is not a well-formed XML address book.
+     * @throws IllegalValueException if a person in the file has invalid values, or there are duplicate persons.
+     */
+    public static AddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return XmlAddressBookReader.read(in);
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
 }
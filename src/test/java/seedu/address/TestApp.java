@@ -65,6 +65,8 @@ public class TestApp extends MainApp {
         double y = Screen.getPrimary().getVisualBounds().getMinY();
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setAddressBookFilePath(saveFileLocation);
+        // the storage file is read right after each command
+        userPrefs.setAddressBookSaveDelay(0);
         return userPrefs;
     }
 
@@ -0,0 +1,92 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IndexSelectionTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void ofRange_lastBeforeFirst_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        IndexSelection.ofRange(Index.fromOneBased(3), Index.fromOneBased(2));
+    }
+
+    @Test
+    public void getZeroBased_all_everyIndexOfList() {
+        assertArrayEquals(new int[] {0, 1, 2}, IndexSelection.all().getZeroBased(3).toArray());
+        assertArrayEquals(new int[0], IndexSelection.all().getZeroBased(0).toArray());
+    }
+
+    @Test
+    public void getZeroBased_ranges_indexesInOrder() {
+        IndexSelection selection = range(5, 6).union(IndexSelection.of(Index.fromOneBased(2)));
+        assertArrayEquals(new int[] {1, 4, 5}, selection.getZeroBased(6).toArray());
+    }
+
+    @Test
+    public void union() {
+        // overlapping ranges -> merged
+        assertEquals(range(1, 6), range(1, 4).union(range(3, 6)));
+
+        // adjacent ranges -> merged
+        assertEquals(range(1, 6), range(4, 6).union(range(1, 3)));
+
+        // range covering several ranges -> merged
+        assertEquals(range(1, 9), range(2, 3).union(range(6, 7)).union(range(1, 9)));
+
+        // separate ranges -> kept apart
+        assertFalse(range(1, 6).equals(range(1, 2).union(range(4, 6))));
+
+        // all -> all
+        assertEquals(IndexSelection.all(), range(1, 2).union(IndexSelection.all()));
+    }
+
+    @Test
+    public void isSingle() {
+        assertTrue(IndexSelection.of(Index.fromOneBased(3)).isSingle());
+        assertTrue(range(3, 3).isSingle());
+        assertFalse(range(3, 4).isSingle());
+        assertFalse(IndexSelection.all().isSingle());
+    }
+
+    @Test
+    public void isWithin() {
+        assertTrue(range(1, 3).isWithin(3));
+        assertFalse(range(1, 4).isWithin(3));
+        assertTrue(IndexSelection.all().isWithin(0));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = range(1, 3);
+
+        // same object -> returns true
+        assertTrue(selection.equals(selection));
+
+        // same values -> returns true
+        assertTrue(selection.equals(range(1, 2).union(range(3, 3))));
+
+        // different types -> returns false
+        assertFalse(selection.equals(1));
+
+        // null -> returns false
+        assertFalse(selection.equals(null));
+
+        // different ranges -> returns false
+        assertFalse(selection.equals(range(1, 4)));
+        assertFalse(selection.equals(IndexSelection.all()));
+    }
+
+    private IndexSelection range(int oneBasedFirst, int oneBasedLast) {
+        return IndexSelection.ofRange(Index.fromOneBased(oneBasedFirst), Index.fromOneBased(oneBasedLast));
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -21,4 +24,19 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceExtension() {
+        // extension replaced
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook.xml"), ".bin"));
+        assertEquals(Paths.get("address.book.bin"), FileUtil.replaceExtension(Paths.get("address.book.xml"), ".bin"));
+
+        // same extension -> same path
+        assertEquals(Paths.get("addressbook.bin"), FileUtil.replaceExtension(Paths.get("addressbook.bin"), ".bin"));
+
+        // no extension -> extension added
+        assertEquals(Paths.get("addressbook.bin"), FileUtil.replaceExtension(Paths.get("addressbook"), ".bin"));
+        assertEquals(Paths.get(".addressbook.bin"), FileUtil.replaceExtension(Paths.get(".addressbook"), ".bin"));
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -137,6 +138,106 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordWithPrefixIgnoreCase --------------------------------------
+
+    @Test
+    public void containsWordWithPrefixIgnoreCase_emptyPrefix_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Prefix parameter cannot be empty");
+        StringUtil.containsWordWithPrefixIgnoreCase("typical sentence", "  ");
+    }
+
+    @Test
+    public void containsWordWithPrefixIgnoreCase_multipleWords_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Prefix parameter should be a single word");
+        StringUtil.containsWordWithPrefixIgnoreCase("typical sentence", "aaa BBB");
+    }
+
+    @Test
+    public void containsWordWithPrefixIgnoreCase_nullSentence_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.containsWordWithPrefixIgnoreCase(null, "abc");
+    }
+
+    @Test
+    public void containsWordWithPrefixIgnoreCase_validInputs_correctResult() {
+        // Empty sentence
+        assertFalse(StringUtil.containsWordWithPrefixIgnoreCase("", "abc")); // Boundary case
+
+        // Prefix is not at the start of a word, or is longer than the word
+        assertFalse(StringUtil.containsWordWithPrefixIgnoreCase("aaa bbb ccc", "bc"));
+        assertFalse(StringUtil.containsWordWithPrefixIgnoreCase("aaa bbb ccc", "bbbb"));
+
+        // Matches the start of a word, different upper/lower case letters
+        assertTrue(StringUtil.containsWordWithPrefixIgnoreCase("aaa bBb ccc", "Bb"));
+        assertTrue(StringUtil.containsWordWithPrefixIgnoreCase("Aaa", "aaa")); // Whole word (boundary case)
+        assertTrue(StringUtil.containsWordWithPrefixIgnoreCase("  AAA   bBb   ccc  ", " c ")); // Extra spaces
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullWord_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getEditDistance("abc", null);
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        // Empty words
+        assertEquals(0, StringUtil.getEditDistance("", "")); // Boundary case
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(3, StringUtil.getEditDistance("abc", ""));
+
+        // Same word
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice"));
+
+        // Different case
+        assertEquals(1, StringUtil.getEditDistance("alice", "Alice"));
+
+        // Substitutions, insertions and deletions
+        assertEquals(1, StringUtil.getEditDistance("alice", "alise"));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alie"));
+        assertEquals(1, StringUtil.getEditDistance("alice", "aliece"));
+        assertEquals(2, StringUtil.getEditDistance("alice", "alcie"));
+        assertEquals(2, StringUtil.getEditDistance("alice", "alicia"));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.getEditDistance("sitting", "kitten"));
+    }
+
+    //---------------- Tests for getSoundex --------------------------------------
+
+    @Test
+    public void getSoundex_nullWord_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getSoundex(null);
+    }
+
+    @Test
+    public void getSoundex_validInputs_correctResult() {
+        // No letters
+        assertEquals("", StringUtil.getSoundex("")); // Boundary case
+        assertEquals("", StringUtil.getSoundex("123"));
+
+        // Padded with zeros
+        assertEquals("L000", StringUtil.getSoundex("Lee"));
+
+        // Words that sound alike, ignoring case
+        assertEquals("R163", StringUtil.getSoundex("Robert"));
+        assertEquals("R163", StringUtil.getSoundex("rupert"));
+
+        // Adjacent letters with the same digit, also when separated by H or W
+        assertEquals("P236", StringUtil.getSoundex("Pfister"));
+        assertEquals("A261", StringUtil.getSoundex("Ashcraft"));
+
+        // Letters with the same digit separated by a vowel
+        assertEquals("T522", StringUtil.getSoundex("Tymczak"));
+
+        // Non-letters ignored
+        assertEquals("O256", StringUtil.getSoundex("O'Conner"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
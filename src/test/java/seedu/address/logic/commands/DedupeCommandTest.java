@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.DuplicateCandidate;
+import seedu.address.model.person.DuplicateCandidatesPredicate;
+import seedu.address.model.person.DuplicateFinder;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DedupeCommand}.
+ */
+public class DedupeCommandTest {
+
+    private static final Person ALYCE = new PersonBuilder(ALICE).withName("Alyce Pauline")
+            .withEmail("alyce@example.com").build();
+    private static final Person CARL_KURTZ = new PersonBuilder(CARL).withName("Carl Kurtz").build();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_noDuplicates_listUnchanged() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new DedupeCommand(), model, commandHistory, DedupeCommand.MESSAGE_NO_DUPLICATES,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_duplicates_candidatesListed() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(ALYCE);
+        addressBook.addPerson(CARL_KURTZ);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        List<DuplicateCandidate> candidates = new DuplicateFinder().findDuplicates(addressBook.getPersonList());
+        expectedModel.updateFilteredPersonList(new DuplicateCandidatesPredicate(candidates));
+        String expectedMessage = String.format(DedupeCommand.MESSAGE_SUCCESS, 2)
+                + String.format(DedupeCommand.MESSAGE_CANDIDATE, CARL.getName(), CARL_KURTZ.getName(),
+                        "similar names, same phone, same email, same address")
+                + String.format(DedupeCommand.MESSAGE_CANDIDATE, ALICE.getName(), ALYCE.getName(),
+                        "similar names, same phone, same address");
+        assertCommandSuccess(new DedupeCommand(), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, CARL_KURTZ, ALICE, ALYCE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_editThenDeleteListedPair_pairMerged() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(ALYCE);
+        addressBook.addPerson(CARL_KURTZ);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        new DedupeCommand().execute(model, commandHistory);
+
+        // the edited person is still listed at its index, so the other person of its pair is deleted
+        new EditCommand(INDEX_FIRST_PERSON, new EditPersonDescriptorBuilder().withEmail("merged@example.com")
+                .build()).execute(model, commandHistory);
+        Person mergedCarl = new PersonBuilder(CARL).withEmail("merged@example.com").build();
+        assertEquals(Arrays.asList(mergedCarl, CARL_KURTZ, ALICE, ALYCE), model.getFilteredPersonList());
+
+        new DeleteCommand(INDEX_SECOND_PERSON).execute(model, commandHistory);
+        assertEquals(Arrays.asList(mergedCarl, ALICE, ALYCE), model.getFilteredPersonList());
+        assertEquals(CARL.getId(), model.getFilteredPersonList().get(0).getId());
+    }
+
+    @Test
+    public void execute_manyDuplicates_someCandidatesDescribed() {
+        AddressBook addressBook = new AddressBook();
+        int candidateCount = DedupeCommand.MAX_DESCRIBED_CANDIDATES + 2;
+        for (int i = 0; i < candidateCount; i++) {
+            String phone = String.valueOf(10000000 + i);
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(phone)
+                    .withEmail("person" + i + "@example.com").build());
+            addressBook.addPerson(new PersonBuilder().withName("Persen " + i).withPhone(phone)
+                    .withEmail("persen" + i + "@example.com").build());
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        String result = new DedupeCommand().execute(model, commandHistory).feedbackToUser;
+        assertEquals(DedupeCommand.MAX_DESCRIBED_CANDIDATES + 2, result.split("\n").length);
+        assertEquals(String.format(DedupeCommand.MESSAGE_MORE_CANDIDATES, 2),
+                result.substring(result.lastIndexOf('\n')));
+        assertEquals(2 * candidateCount, model.getFilteredPersonList().size());
+    }
+}
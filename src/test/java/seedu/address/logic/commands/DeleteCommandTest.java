@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -8,13 +9,20 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -81,6 +89,57 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, commandHistory, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_indexRangeUnfilteredList_success() throws Exception {
+        DeleteCommand deleteCommand = new DeleteCommand(IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON)
+                .union(IndexSelection.of(Index.fromOneBased(5))));
+
+        List<Person> personsToDelete = Arrays.asList(model.getFilteredPersonList().get(0),
+                model.getFilteredPersonList().get(1), model.getFilteredPersonList().get(2),
+                model.getFilteredPersonList().get(4));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(personsToDelete);
+        expectedModel.commitAddressBook();
+
+        assertCommandSuccess(deleteCommand, model, commandHistory,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 4), expectedModel);
+
+        // undo -> all persons restored together
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void execute_allPersonsFilteredList_success() {
+        model.updateFilteredPersonList(person -> person.getName().fullName.contains("Meier"));
+        List<Person> personsToDelete = new ArrayList<>(model.getFilteredPersonList());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(personsToDelete);
+        expectedModel.commitAddressBook();
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(new DeleteCommand(IndexSelection.all()), model, commandHistory,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()), expectedModel);
+    }
+
+    @Test
+    public void execute_allPersonsEmptyList_throwsCommandException() {
+        showNoPerson(model);
+
+        assertCommandFailure(new DeleteCommand(IndexSelection.all()), model, commandHistory,
+                Messages.MESSAGE_NO_PERSONS_DISPLAYED);
+    }
+
+    @Test
+    public void execute_indexRangeOutOfBounds_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(IndexSelection.ofRange(INDEX_FIRST_PERSON, outOfBoundIndex));
+
+        assertCommandFailure(deleteCommand, model, commandHistory, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
     @Test
     public void executeUndoRedo_validIndexUnfilteredList_success() throws Exception {
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
@@ -164,6 +223,9 @@ public class DeleteCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // different index selection -> returns false
+        assertFalse(deleteFirstCommand.equals(new DeleteCommand(IndexSelection.all())));
     }
 
     /**
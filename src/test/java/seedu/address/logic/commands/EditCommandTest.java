@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -15,10 +16,15 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.AddressBook;
@@ -52,6 +58,17 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_personEdited_idKept() throws Exception {
+        Person personToEdit = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model, commandHistory);
+
+        Person editedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(VALID_NAME_BOB, editedPerson.getName().fullName);
+        assertEquals(personToEdit.getId(), editedPerson.getId());
+    }
+
     @Test
     public void execute_someFieldsSpecifiedUnfilteredList_success() {
         Index indexLastPerson = Index.fromOneBased(model.getFilteredPersonList().size());
@@ -99,10 +116,61 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedPerson);
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.updatePerson(model.getFilteredPersonList().get(0), editedPerson);
         expectedModel.commitAddressBook();
 
+        // the filter is kept, so the edited person is no longer shown as it does not match the filter
         assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_tagsOfSeveralPersons_success() throws Exception {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_HUSBAND).build();
+        EditCommand editCommand = new EditCommand(IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                descriptor);
+
+        List<Person> personsToEdit = model.getFilteredPersonList().subList(0, 2);
+        List<Person> editedPersons = personsToEdit.stream()
+                .map(person -> new PersonBuilder(person).withTags(VALID_TAG_HUSBAND).build())
+                .collect(Collectors.toList());
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updatePersons(new ArrayList<>(personsToEdit), editedPersons);
+        expectedModel.commitAddressBook();
+
+        assertCommandSuccess(editCommand, model, commandHistory,
+                String.format(EditCommand.MESSAGE_EDIT_PERSONS_SUCCESS, 2), expectedModel);
+
+        // undo -> both persons edited back together
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_tagsOfAllShownPersons_success() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Person personToEdit = model.getFilteredPersonList().get(0);
+        Person editedPerson = new PersonBuilder(personToEdit).withTags().build();
+        EditCommand editCommand = new EditCommand(IndexSelection.all(),
+                new EditPersonDescriptorBuilder().withTags().build());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+        expectedModel.updatePerson(personToEdit, editedPerson);
+        expectedModel.commitAddressBook();
+
+        assertCommandSuccess(editCommand, model, commandHistory,
+                String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedPerson), expectedModel);
+    }
+
+    @Test
+    public void execute_noPersonsShown_failure() {
+        model.updateFilteredPersonList(person -> false);
+        EditCommand editCommand = new EditCommand(IndexSelection.all(),
+                new EditPersonDescriptorBuilder().withTags().build());
+
+        assertCommandFailure(editCommand, model, commandHistory, Messages.MESSAGE_NO_PERSONS_DISPLAYED);
     }
 
     @Test
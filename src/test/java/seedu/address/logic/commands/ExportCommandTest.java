@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.storage.ContactFormat;
+import seedu.address.storage.ContactReader;
+
+/**
+ * Contains integration tests (interaction with the Model and ImportCommand) and unit tests for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_csvFile_shownPersonsExported() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("contacts.csv");
+        showPersonsNamedMeier(model);
+        showPersonsNamedMeier(expectedModel);
+
+        assertCommandSuccess(new ExportCommand(filePath, ContactFormat.CSV), model, commandHistory,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+        assertEquals(Arrays.asList("name,phone,email,address,tags",
+                "Benson Meier,98765432,johnd@example.com,\"311, Clementi Ave 2, #02-25\",friends; owesMoney",
+                "Daniel Meier,87652533,cornelia@example.com,10th street,friends"),
+                Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_eachFormat_importedBackUnchanged() throws Exception {
+        for (ContactFormat format : ContactFormat.values()) {
+            Path filePath = testFolder.getRoot().toPath().resolve("contacts." + format.name().toLowerCase(Locale.ROOT));
+            new ExportCommand(filePath, format).execute(model, commandHistory);
+
+            Model importedModel = new ModelManager();
+            new ImportCommand(filePath, format).execute(importedModel, commandHistory);
+            assertEquals(format + " export changed the persons", getTypicalAddressBook(),
+                    new AddressBook(importedModel.getAddressBook()));
+        }
+    }
+
+    @Test
+    public void execute_noPersonsShown_emptyFileExported() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("contacts.json");
+        model.updateFilteredPersonList(person -> false);
+
+        new ExportCommand(filePath, ContactFormat.JSON).execute(model, commandHistory);
+        try (ContactReader reader = ContactFormat.JSON.openReader(filePath)) {
+            assertFalse(reader.read().isPresent());
+        }
+    }
+
+    @Test
+    public void execute_fileIsFolder_throwsCommandException() throws Exception {
+        Path filePath = testFolder.newFolder("contacts.csv").toPath();
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(ExportCommand.MESSAGE_EXPORT_FAILED, filePath, ""));
+        new ExportCommand(filePath, ContactFormat.CSV).execute(model, commandHistory);
+    }
+
+    @Test
+    public void equals() {
+        Path filePath = testFolder.getRoot().toPath().resolve("contacts.csv");
+        ExportCommand exportCsvCommand = new ExportCommand(filePath, ContactFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(exportCsvCommand.equals(exportCsvCommand));
+
+        // same values -> returns true
+        assertTrue(exportCsvCommand.equals(new ExportCommand(filePath, ContactFormat.CSV)));
+
+        // different types -> returns false
+        assertFalse(exportCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCsvCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(exportCsvCommand.equals(new ExportCommand(filePath, ContactFormat.JSON)));
+    }
+
+    private void showPersonsNamedMeier(Model model) {
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(
+                Collections.singletonList(KEYWORD_MATCHING_MEIER)));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.ContactFormat;
+import seedu.address.storage.CsvContactReader;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and UndoCommand) and unit tests for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportCommandTest");
+    private static final Path VALID_CSV_FILE = TEST_DATA_FOLDER.resolve("validContacts.csv");
+    private static final Path VALID_VCARD_FILE = TEST_DATA_FOLDER.resolve("validContacts.vcf");
+
+    private static final Person IMPORTED_IDA = new PersonBuilder(IDA).withAddress("chicago ave, #01-01")
+            .withTags("friends", "colleagues").build();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_csvFile_validPersonsImported() {
+        ImportCommand importCommand = new ImportCommand(VALID_CSV_FILE, ContactFormat.CSV);
+
+        // the two entries after the valid ones are duplicates, and the two after those are invalid
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, VALID_CSV_FILE, 2, 2)
+                + String.format(ImportCommand.MESSAGE_FIRST_INVALID_ENTRY, 6, Phone.MESSAGE_PHONE_CONSTRAINTS);
+        assertCommandSuccess(importCommand, model, commandHistory, expectedMessage, prepareExpectedModel());
+    }
+
+    @Test
+    public void execute_vCardFile_validPersonsImported() {
+        ImportCommand importCommand = new ImportCommand(VALID_VCARD_FILE, ContactFormat.VCARD);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, VALID_VCARD_FILE, 0, 1)
+                + String.format(ImportCommand.MESSAGE_FIRST_INVALID_ENTRY, 18,
+                        String.format(ImportCommand.MESSAGE_MISSING_FIELD, "email"));
+        assertCommandSuccess(importCommand, model, commandHistory, expectedMessage, prepareExpectedModel());
+    }
+
+    @Test
+    public void execute_severalBatches_importedAsSingleState() throws Exception {
+        ImportCommand importCommand = new ImportCommand(VALID_CSV_FILE, ContactFormat.CSV, 1);
+
+        importCommand.execute(model, commandHistory);
+        assertTrue(model.hasPerson(HOON));
+        assertTrue(model.hasPerson(IMPORTED_IDA));
+
+        // undo -> all batches undone together
+        new UndoCommand().execute(model, commandHistory);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_malformedFile_nothingImported() {
+        Path filePath = TEST_DATA_FOLDER.resolve("unterminatedQuote.csv");
+        ImportCommand importCommand = new ImportCommand(filePath, ContactFormat.CSV, 1);
+
+        // the first person has already been added in a batch of its own when the malformed entry is read
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FAILED, filePath,
+                String.format(CsvContactReader.MESSAGE_UNTERMINATED_QUOTE, 3));
+        assertCommandFailure(importCommand, model, commandHistory, expectedMessage);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("missingFile.csv");
+        ImportCommand importCommand = new ImportCommand(filePath, ContactFormat.CSV);
+
+        assertCommandFailure(importCommand, model, commandHistory,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("missingColumn.csv");
+        ImportCommand importCommand = new ImportCommand(filePath, ContactFormat.CSV);
+
+        assertCommandFailure(importCommand, model, commandHistory, String.format(ImportCommand.MESSAGE_IMPORT_FAILED,
+                filePath, String.format(CsvContactReader.MESSAGE_MISSING_COLUMN, CsvContactReader.COLUMN_ADDRESS)));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsvCommand = new ImportCommand(VALID_CSV_FILE, ContactFormat.CSV);
+        ImportCommand importVCardCommand = new ImportCommand(VALID_VCARD_FILE, ContactFormat.VCARD);
+
+        // same object -> returns true
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+
+        // same values -> returns true
+        assertTrue(importCsvCommand.equals(new ImportCommand(VALID_CSV_FILE, ContactFormat.CSV)));
+
+        // different types -> returns false
+        assertFalse(importCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsvCommand.equals(importVCardCommand));
+    }
+
+    /**
+     * Returns a model with the typical persons, and the valid persons in the test files imported in a single state.
+     */
+    private Model prepareExpectedModel() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(Arrays.asList(HOON, IMPORTED_IDA));
+        expectedModel.commitAddressBook();
+        return expectedModel;
+    }
+}
@@ -34,6 +34,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import org.junit.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Address;
@@ -208,4 +209,25 @@ public class EditCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_tagsOfSeveralPersons_success() {
+        String userInput = "1-2, 3" + TAG_DESC_FRIEND;
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_FRIEND).build();
+        EditCommand expectedCommand = new EditCommand(IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                descriptor);
+        assertParseSuccess(parser, userInput, expectedCommand);
+
+        userInput = "all" + TAG_EMPTY;
+        descriptor = new EditPersonDescriptorBuilder().withTags().build();
+        expectedCommand = new EditCommand(IndexSelection.all(), descriptor);
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_otherFieldsOfSeveralPersons_failure() {
+        assertParseFailure(parser, "1-2" + NAME_DESC_AMY, EditCommand.MESSAGE_ONLY_TAGS_EDITED_TOGETHER);
+        assertParseFailure(parser, "all" + PHONE_DESC_AMY + TAG_DESC_FRIEND,
+                EditCommand.MESSAGE_ONLY_TAGS_EDITED_TOGETHER);
+    }
 }
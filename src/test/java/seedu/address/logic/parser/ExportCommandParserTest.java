@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.ContactFormat;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_csvFile_returnsExportCommand() {
+        assertParseSuccess(parser, " contacts.csv ", new ExportCommand(Paths.get("contacts.csv"), ContactFormat.CSV));
+    }
+
+    @Test
+    public void parse_vCardFile_returnsExportCommand() {
+        assertParseSuccess(parser, "data/Contacts.VCF",
+                new ExportCommand(Paths.get("data", "Contacts.VCF"), ContactFormat.VCARD));
+        assertParseSuccess(parser, "contacts.vcard",
+                new ExportCommand(Paths.get("contacts.vcard"), ContactFormat.VCARD));
+    }
+
+    @Test
+    public void parse_jsonFile_returnsExportCommand() {
+        assertParseSuccess(parser, "contacts.json", new ExportCommand(Paths.get("contacts.json"), ContactFormat.JSON));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFormat_throwsParseException() {
+        assertParseFailure(parser, "contacts.txt", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, "csv", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -5,11 +5,21 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.index.AllOfPredicate;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmailMatchesPredicate;
+import seedu.address.model.person.HasTagsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -20,6 +30,65 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_wildcardOnlyKeyword_throwsParseException() {
+        assertParseFailure(parser, "Alice *", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzySuffixOnlyKeyword_throwsParseException() {
+        assertParseFailure(parser, "~ Alice", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidFieldArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // preamble before fields
+        assertParseFailure(parser, "Alice t/friends", expectedMessage);
+
+        // empty field
+        assertParseFailure(parser, "n/ t/friends", expectedMessage);
+        assertParseFailure(parser, "a/  ", expectedMessage);
+
+        // invalid email domain
+        assertParseFailure(parser, "e/@", expectedMessage);
+        assertParseFailure(parser, "e/@a@b.com", expectedMessage);
+
+        // invalid field values
+        assertParseFailure(parser, "p/abc", Phone.MESSAGE_PHONE_CONSTRAINTS);
+        assertParseFailure(parser, "e/alice", Email.MESSAGE_EMAIL_CONSTRAINTS);
+        assertParseFailure(parser, "t/friends*", Tag.MESSAGE_TAG_CONSTRAINTS);
+        assertParseFailure(parser, "t/friends|", Tag.MESSAGE_TAG_CONSTRAINTS);
+        assertParseFailure(parser, "t/!", Tag.MESSAGE_TAG_CONSTRAINTS);
+        assertParseFailure(parser, "t/!friends|family", Tag.MESSAGE_TAG_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validFieldArgs_returnsFindCommand() {
+        // one field
+        assertParseSuccess(parser, " t/friends t/colleagues", new FindCommand(new HasTagsPredicate(
+                Arrays.asList(Collections.singleton(new Tag("friends")), Collections.singleton(new Tag("colleagues"))),
+                Collections.emptySet())));
+
+        // tag groups and excluded tags
+        assertParseSuccess(parser, "t/colleagues|friends t/!family t/!enemies", new FindCommand(new HasTagsPredicate(
+                Collections.singletonList(new HashSet<>(Arrays.asList(new Tag("colleagues"), new Tag("friends")))),
+                new HashSet<>(Arrays.asList(new Tag("family"), new Tag("enemies"))))));
+
+        // all fields
+        FindCommand expectedFindCommand = new FindCommand(new AllOfPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bo*", "Carl")),
+                new PhoneMatchesPredicate(Collections.singletonList(new Phone("91234567"))),
+                new EmailMatchesPredicate(Arrays.asList("alice@example.com", "@corp.com")),
+                new AddressContainsKeywordsPredicate(Arrays.asList("Clementi", "Ave")),
+                new HasTagsPredicate(Collections.singleton(new Tag("friends"))))));
+        assertParseSuccess(parser, "t/friends e/alice@example.com a/Clementi  Ave n/Alice Bo* p/91234567 "
+                + "e/@corp.com n/Carl", expectedFindCommand);
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -29,6 +98,10 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // prefix keywords
+        assertParseSuccess(parser, "Ali* Bob", new FindCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList("Ali*", "Bob"))));
     }
 
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.ContactFormat;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_csvFile_returnsImportCommand() {
+        assertParseSuccess(parser, " contacts.csv ", new ImportCommand(Paths.get("contacts.csv"), ContactFormat.CSV));
+    }
+
+    @Test
+    public void parse_vCardFile_returnsImportCommand() {
+        assertParseSuccess(parser, "data/Contacts.VCF",
+                new ImportCommand(Paths.get("data", "Contacts.VCF"), ContactFormat.VCARD));
+        assertParseSuccess(parser, "contacts.vcard",
+                new ImportCommand(Paths.get("contacts.vcard"), ContactFormat.VCARD));
+    }
+
+    @Test
+    public void parse_jsonFile_returnsImportCommand() {
+        assertParseSuccess(parser, "contacts.json", new ImportCommand(Paths.get("contacts.json"), ContactFormat.JSON));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFormat_throwsParseException() {
+        assertParseFailure(parser, "contacts.txt", ImportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, "csv", ImportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
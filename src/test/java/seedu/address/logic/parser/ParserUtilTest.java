@@ -4,7 +4,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +17,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -64,6 +68,36 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseIndexSelection(""));
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseIndexSelection("1,"));
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseIndexSelection("1-"));
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseIndexSelection("1-2-3"));
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseIndexSelection("0-2"));
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseIndexSelection("ALL"));
+    }
+
+    @Test
+    public void parseIndexSelection_rangeEndingBeforeStart_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_INDEX_RANGE);
+        ParserUtil.parseIndexSelection("3-2");
+    }
+
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        // single index
+        assertEquals(IndexSelection.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexSelection("1"));
+
+        // ranges and indexes, with whitespaces
+        assertEquals(IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)
+                .union(IndexSelection.of(Index.fromOneBased(5))), ParserUtil.parseIndexSelection(" 1 - 2 ,5 "));
+
+        // all
+        assertEquals(IndexSelection.all(), ParserUtil.parseIndexSelection("  all  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
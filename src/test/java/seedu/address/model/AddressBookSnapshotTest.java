@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+public class AddressBookSnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AddressBookSnapshot snapshot =
+            new AddressBookSnapshot(PersistentPersonList.of(Arrays.asList(ALICE, BENSON)));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new AddressBookSnapshot(null);
+    }
+
+    @Test
+    public void getPersonList_persons_listedInOrder() {
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(BENSON, snapshot.getPersonList().get(1));
+
+        List<Person> iterated = new ArrayList<>();
+        snapshot.getPersonList().forEach(iterated::add);
+        assertEquals(Arrays.asList(ALICE, BENSON), iterated);
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        snapshot.getPersonList().remove(0);
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(snapshot.equals(new AddressBookSnapshot(PersistentPersonList.of(Arrays.asList(ALICE, BENSON)))));
+
+        // same object -> returns true
+        assertTrue(snapshot.equals(snapshot));
+
+        // null -> returns false
+        assertFalse(snapshot.equals(null));
+
+        // different types -> returns false
+        assertFalse(snapshot.equals(5));
+
+        // different persons -> returns false
+        PersistentPersonList otherPersons = PersistentPersonList.of(Collections.singletonList(ALICE));
+        assertFalse(snapshot.equals(new AddressBookSnapshot(otherPersons)));
+    }
+}
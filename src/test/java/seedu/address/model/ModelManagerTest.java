@@ -1,25 +1,46 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -45,6 +66,246 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_filtersByIndex() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+                Collections.singletonList(KEYWORD_MATCHING_MEIER));
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // edited person no longer matches -> removed from filtered list
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Smith").build();
+        modelManager.updatePerson(BENSON, editedBenson);
+        assertEquals(Collections.singletonList(DANIEL), modelManager.getFilteredPersonList());
+
+        // edited person matches again -> shown in filtered list
+        modelManager.updatePerson(editedBenson, BENSON);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_filteredList_filterKept() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(
+                new NameContainsKeywordsPredicate(Collections.singletonList(KEYWORD_MATCHING_MEIER)));
+
+        // added person does not match -> not shown in filtered list
+        modelManager.addPerson(new PersonBuilder().withName("Amy Bee").build());
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // added person matches -> shown in filtered list
+        Person hansMeier = new PersonBuilder().withName("Hans Meier").build();
+        modelManager.addPerson(hansMeier);
+        assertEquals(Arrays.asList(BENSON, DANIEL, hansMeier), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_predicateUsedBefore_resultsUpToDate() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Person> meierPredicate = person -> {
+            testCount.incrementAndGet();
+            return person.getName().fullName.contains(KEYWORD_MATCHING_MEIER);
+        };
+        modelManager.updateFilteredPersonList(meierPredicate);
+        assertEquals(getTypicalAddressBook().getPersonList().size(), testCount.get());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        // address book unchanged -> same results, served from the cache without testing any person
+        testCount.set(0);
+        modelManager.updateFilteredPersonList(meierPredicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(0, testCount.get());
+
+        // person added while another predicate is active -> results include the added person
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        Person hansMeier = new PersonBuilder().withName("Hans Meier").build();
+        modelManager.addPerson(hansMeier);
+        modelManager.updateFilteredPersonList(meierPredicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL, hansMeier), modelManager.getFilteredPersonList());
+
+        // person deleted while the predicate is active, then used again -> results exclude the deleted person, and
+        // are served from the cache, which was kept up to date with the deletion
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        testCount.set(0);
+        modelManager.updateFilteredPersonList(meierPredicate);
+        assertEquals(Arrays.asList(DANIEL, hansMeier), modelManager.getFilteredPersonList());
+        assertEquals(0, testCount.get());
+    }
+
+    @Test
+    public void updateFilteredPersonList_showAllPersons_allPersonsInAddressBookOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(
+                new NameContainsKeywordsPredicate(Collections.singletonList(KEYWORD_MATCHING_MEIER)));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(getTypicalAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+
+        // persons added while every person is shown -> shown in filtered list
+        modelManager.addPerson(HOON);
+        assertEquals(HOON, modelManager.getFilteredPersonList().get(modelManager.getFilteredPersonList().size() - 1));
+    }
+
+    @Test
+    public void updateFilteredPersonList_aboveParallelFilterThreshold_sameResults() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+        Predicate<Person> meierPredicate = person -> person.getName().fullName.contains(KEYWORD_MATCHING_MEIER);
+
+        modelManager.updateFilteredPersonList(meierPredicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicate_sortsByRanking() {
+        Person elle = new PersonBuilder().withName("Elle Meyer").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(elle).withPerson(benson).build(),
+                new UserPrefs());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("meier~")));
+        assertEquals(Arrays.asList(benson, elle), modelManager.getFilteredPersonList());
+
+        // unranked predicate -> address book order
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(elle, benson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deletePersons_severalPersons_singleEvent() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.deletePersons(Arrays.asList(ALICE, CARL));
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updatePersons_filteredList_filterKept() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager.updateFilteredPersonList(person -> !person.getTags().isEmpty());
+        eventsCollectorRule.eventsCollector.reset();
+
+        Person untaggedAlice = new PersonBuilder(ALICE).withTags().build();
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        modelManager.updatePersons(Arrays.asList(ALICE, CARL), Arrays.asList(untaggedAlice, taggedCarl));
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(Arrays.asList(BENSON, taggedCarl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void runTransaction_mutations_committedWithSingleEvent() {
+        modelManager.runTransaction(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.addPerson(BENSON);
+            modelManager.deletePerson(ALICE);
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        // the transaction is saved as a single state
+        modelManager.undoAddressBook();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void runTransaction_noMutations_noEventNoCommit() {
+        modelManager.runTransaction(() -> { });
+
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void runTransaction_throwsException_rolledBack() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.updateFilteredPersonList(
+                new NameContainsKeywordsPredicate(Collections.singletonList(KEYWORD_MATCHING_MEIER)));
+        eventsCollectorRule.eventsCollector.reset();
+
+        try {
+            modelManager.runTransaction(() -> {
+                modelManager.addPerson(BENSON);
+                modelManager.deletePerson(ALICE);
+                throw new IllegalValueException("rolled back");
+            });
+            fail("The exception thrown by the transaction should be rethrown.");
+        } catch (IllegalValueException ive) {
+            assertEquals("rolled back", ive.getMessage());
+        }
+
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+
+        // the filtered person list is not found from results cached during the transaction
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+        modelManager.undoAddressBook();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(BENSON);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(modelManager.getAddressBookSnapshot(), event.data);
+    }
+
+    @Test
+    public void getAddressBookSnapshot_inTransaction_publishedWhenCommitted() {
+        modelManager.runTransaction(() -> {
+            modelManager.addPerson(ALICE);
+            assertEquals(Collections.emptyList(), modelManager.getAddressBookSnapshot().getPersonList());
+        });
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBookSnapshot().getPersonList());
+
+        try {
+            modelManager.runTransaction(() -> {
+                modelManager.addPerson(BENSON);
+                throw new IllegalValueException("rolled back");
+            });
+            fail("The exception thrown by the transaction should be rethrown.");
+        } catch (IllegalValueException ive) {
+            assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBookSnapshot().getPersonList());
+        }
+    }
+
+    @Test
+    public void getAddressBookSnapshot_otherThread_readsPublishedSnapshot() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        FutureTask<List<Person>> reader = new FutureTask<>(() ->
+                new ArrayList<>(modelManager.getAddressBookSnapshot().getPersonList()));
+        new Thread(reader).start();
+        assertEquals(getTypicalAddressBook().getPersonList(), reader.get());
+    }
+
+    @Test
+    public void runTransaction_nestedTransaction_partOfOuterTransaction() {
+        modelManager.runTransaction(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.runTransaction(() -> modelManager.addPerson(BENSON));
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -8,13 +8,19 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.VersionedAddressBook.HistoryMode;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -59,6 +65,160 @@ public class VersionedAddressBookTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void commit_personLevelChanges_statesSaved() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build()),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undoRedo_journalHistoryPersonLevelChanges_success() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy,
+                HistoryMode.JOURNAL, VersionedAddressBook.DEFAULT_HISTORY_LIMIT);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(emptyAddressBook);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build(),
+                        addressBookWithCarl),
+                emptyAddressBook,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_snapshotHistoryOnePersonUpdated_onlyUpdatedPersonReplaced() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build());
+        versionedAddressBook.updatePerson(BOB, new PersonBuilder(BOB).withPhone("11111111").build());
+        versionedAddressBook.commit();
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+        versionedAddressBook.undo();
+
+        assertEquals(Arrays.asList(AMY, BOB, CARL), versionedAddressBook.getPersonList());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(Collections.singletonList(BOB), change.getAddedSubList());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void undo_journalHistoryWithUncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                HistoryMode.JOURNAL, VersionedAddressBook.DEFAULT_HISTORY_LIMIT);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void rollBackTransaction_snapshotHistory_changesSinceBeginReverted() {
+        assertRollBackTransactionRevertsChanges(HistoryMode.SNAPSHOT);
+    }
+
+    @Test
+    public void rollBackTransaction_journalHistory_changesSinceBeginReverted() {
+        assertRollBackTransactionRevertsChanges(HistoryMode.JOURNAL);
+    }
+
+    @Test
+    public void getSnapshot_snapshotHistory_matchesCurrentState() {
+        assertSnapshotMatchesCurrentState(HistoryMode.SNAPSHOT);
+    }
+
+    @Test
+    public void getSnapshot_journalHistory_matchesCurrentState() {
+        assertSnapshotMatchesCurrentState(HistoryMode.JOURNAL);
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        AddressBookSnapshot snapshot = versionedAddressBook.getSnapshot();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.removePerson(AMY);
+
+        assertEquals(addressBookWithAmy, new AddressBook(snapshot));
+        assertEquals(addressBookWithBob, new AddressBook(versionedAddressBook.getSnapshot()));
+    }
+
+    @Test
+    public void rollBackTransaction_noTransaction_throwsIllegalStateException() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+
+        assertThrows(IllegalStateException.class, versionedAddressBook::rollBackTransaction);
+    }
+
+    @Test
+    public void beginTransaction_transactionAlreadyBegun_throwsIllegalStateException() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.beginTransaction();
+
+        assertThrows(IllegalStateException.class, versionedAddressBook::beginTransaction);
+    }
+
+    @Test
+    public void commit_transaction_changesSavedAsSingleState() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.beginTransaction();
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        assertFalse(versionedAddressBook.isInTransaction());
+        assertAddressBookListStatus(versionedAddressBook,
+                Collections.singletonList(emptyAddressBook),
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_journalHistoryLimitExceeded_oldestStatesDropped() {
+        // each addition records one person
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                HistoryMode.JOURNAL, 2);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(new AddressBookBuilder().withPerson(AMY).build(),
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build()),
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build(),
+                Collections.emptyList());
+    }
+
     @Test
     public void canUndo_multipleAddressBookPointerAtEndOfStateList_returnsTrue() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(
@@ -235,6 +395,68 @@ public class VersionedAddressBookTest {
         assertFalse(versionedAddressBook.equals(differentCurrentStatePointer));
     }
 
+    /**
+     * Asserts that rolling back a transaction on a {@code VersionedAddressBook} that keeps its history in
+     * {@code historyMode} reverts only the changes made in the transaction, and leaves its history unchanged.
+     */
+    private void assertRollBackTransactionRevertsChanges(HistoryMode historyMode) {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, historyMode,
+                VersionedAddressBook.DEFAULT_HISTORY_LIMIT);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        // uncommitted change made before the transaction
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.beginTransaction();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.removePerson(AMY);
+        versionedAddressBook.updatePerson(BOB, new PersonBuilder(BOB).withPhone("999").build());
+        versionedAddressBook.rollBackTransaction();
+
+        assertFalse(versionedAddressBook.isInTransaction());
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
+    /**
+     * Asserts that the snapshots of a {@code VersionedAddressBook} with {@code historyMode} match its current state
+     * after changes, undos, redos and rolled back transactions.
+     */
+    private void assertSnapshotMatchesCurrentState(HistoryMode historyMode) {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy, historyMode,
+                VersionedAddressBook.DEFAULT_HISTORY_LIMIT);
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook.getSnapshot()));
+
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.commit();
+        assertSnapshotMatches(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertSnapshotMatches(versionedAddressBook);
+        versionedAddressBook.redo();
+        assertSnapshotMatches(versionedAddressBook);
+
+        versionedAddressBook.beginTransaction();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.rollBackTransaction();
+        assertSnapshotMatches(versionedAddressBook);
+
+        versionedAddressBook.resetData(emptyAddressBook);
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook.getSnapshot()));
+    }
+
+    private void assertSnapshotMatches(VersionedAddressBook versionedAddressBook) {
+        assertEquals(new AddressBook(versionedAddressBook), new AddressBook(versionedAddressBook.getSnapshot()));
+    }
+
     /**
      * Asserts that {@code versionedAddressBook} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedAddressBook#currentStatePointer} is equal to {@code expectedStatesBeforePointer},
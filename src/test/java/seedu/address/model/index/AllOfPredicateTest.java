@@ -0,0 +1,101 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.EmailMatchesPredicate;
+import seedu.address.model.person.HasTagsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class AllOfPredicateTest {
+
+    private static final IndexedPredicate FRIENDS = new HasTagsPredicate(Collections.singleton(new Tag("friends")));
+    private static final IndexedPredicate MEIER = new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+    private static final IndexedPredicate EXAMPLE_DOMAIN =
+            new EmailMatchesPredicate(Collections.singletonList("@example.com"));
+    private static final IndexedPredicate CLEMENTI =
+            new AddressContainsKeywordsPredicate(Collections.singletonList("clementi"));
+
+    @Test
+    public void equals() {
+        AllOfPredicate firstPredicate = new AllOfPredicate(Arrays.asList(FRIENDS, MEIER));
+        AllOfPredicate secondPredicate = new AllOfPredicate(Arrays.asList(FRIENDS, CLEMENTI));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AllOfPredicate(Arrays.asList(FRIENDS, MEIER))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test() {
+        // all predicates match -> returns true
+        assertTrue(new AllOfPredicate(Arrays.asList(FRIENDS, MEIER, EXAMPLE_DOMAIN)).test(DANIEL));
+
+        // some predicates match -> returns false
+        assertFalse(new AllOfPredicate(Arrays.asList(FRIENDS, MEIER)).test(ALICE));
+
+        // zero predicates -> returns false
+        assertFalse(new AllOfPredicate(Collections.emptyList()).test(ALICE));
+    }
+
+    @Test
+    public void lookUp_matchesTest() {
+        PersonIndex index = new PersonIndex();
+        getTypicalPersons().forEach(index::add);
+
+        List<List<IndexedPredicate>> predicateLists = Arrays.asList(
+                Arrays.asList(FRIENDS, MEIER),
+                Arrays.asList(EXAMPLE_DOMAIN, FRIENDS, CLEMENTI),
+                Arrays.asList(CLEMENTI, EXAMPLE_DOMAIN),
+                Arrays.asList(MEIER, CLEMENTI, FRIENDS),
+                Collections.singletonList(EXAMPLE_DOMAIN),
+                Collections.emptyList());
+        for (List<IndexedPredicate> predicates : predicateLists) {
+            AllOfPredicate predicate = new AllOfPredicate(predicates);
+            assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                    predicate.lookUp(index));
+        }
+
+        assertEquals(Collections.singleton(BENSON),
+                new AllOfPredicate(Arrays.asList(EXAMPLE_DOMAIN, FRIENDS, CLEMENTI)).lookUp(index));
+        assertEquals(1, new AllOfPredicate(Arrays.asList(EXAMPLE_DOMAIN, FRIENDS, CLEMENTI)).estimateMatches(index));
+    }
+
+    @Test
+    public void getRanking_rankedPredicate_usesItsRanking() {
+        IndexedPredicate fuzzyMeier = new NameContainsKeywordsPredicate(Collections.singletonList("Meyer~"));
+        assertTrue(new AllOfPredicate(Arrays.asList(FRIENDS, fuzzyMeier)).getRanking().isPresent());
+        assertFalse(new AllOfPredicate(Arrays.asList(FRIENDS, MEIER)).getRanking().isPresent());
+
+        List<Person> persons = Arrays.asList(BENSON, ELLE);
+        persons.sort(new AllOfPredicate(Arrays.asList(FRIENDS, fuzzyMeier)).getRanking().get());
+        assertEquals(Arrays.asList(ELLE, BENSON), persons);
+    }
+}
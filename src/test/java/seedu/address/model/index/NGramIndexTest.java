@@ -0,0 +1,78 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.util.StringUtil;
+
+public class NGramIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final NGramIndex nGramIndex = new NGramIndex(2);
+
+    @Test
+    public void constructor_nonPositiveN_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new NGramIndex(0);
+    }
+
+    @Test
+    public void getWordsWithinDistance_negativeDistance_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        nGramIndex.getWordsWithinDistance("alice", -1);
+    }
+
+    @Test
+    public void getWordsWithinDistance_wordsNearby_returnsWordsWithDistances() {
+        Arrays.asList("alice", "alicia", "alex", "bob", "elise").forEach(nGramIndex::add);
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("alice", 0);
+        expected.put("alicia", 2);
+        expected.put("elise", 2);
+        assertEquals(expected, nGramIndex.getWordsWithinDistance("alice", 2));
+        assertEquals(Collections.singletonMap("alice", 0), nGramIndex.getWordsWithinDistance("alice", 1));
+        assertEquals(Collections.singletonMap("alex", 1), nGramIndex.getWordsWithinDistance("alec", 1));
+        assertEquals(Collections.emptyMap(), nGramIndex.getWordsWithinDistance("alise", 0));
+    }
+
+    @Test
+    public void getWordsWithinDistance_afterRemove_removedWordNotReturned() {
+        nGramIndex.add("alice");
+        nGramIndex.add("alicia");
+        nGramIndex.remove("alice");
+        nGramIndex.remove("carl"); // not in index
+        assertEquals(Collections.singletonMap("alicia", 2), nGramIndex.getWordsWithinDistance("alice", 2));
+        assertEquals(1, nGramIndex.getWordCount());
+    }
+
+    @Test
+    public void getWordsWithinDistance_allWordsAndDistances_matchesEditDistance() {
+        List<String> words = Arrays.asList("a", "aa", "aaa", "ab", "ba", "abc", "acb", "bca", "meier", "meyer",
+                "mueller", "kurz", "kunz", "best", "pauline", "paul", "");
+        words.forEach(nGramIndex::add);
+
+        for (String word : words) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String other : words) {
+                    int distance = StringUtil.getEditDistance(word, other);
+                    if (distance <= maxDistance) {
+                        expected.put(other, distance);
+                    }
+                }
+                assertEquals(expected, nGramIndex.getWordsWithinDistance(word, maxDistance));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class OrdinalBitmapTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void add_negativeOrdinal_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new OrdinalBitmap().add(-1);
+    }
+
+    @Test
+    public void addRemove_acrossContainerKinds_matchesTreeSet() {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        // fills a chunk past the size of an array container, then empties it again
+        for (int ordinal = 0; ordinal < 3 * OrdinalBitmap.MAX_ARRAY_SIZE; ordinal += 2) {
+            bitmap.add(ordinal);
+            expected.add(ordinal);
+        }
+        bitmap.add(1 << 20); // another chunk
+        expected.add(1 << 20);
+        assertBitmapEquals(expected, bitmap);
+        assertTrue(bitmap.contains(2));
+        assertFalse(bitmap.contains(3));
+
+        for (int ordinal = 0; ordinal < 3 * OrdinalBitmap.MAX_ARRAY_SIZE; ordinal += 4) {
+            bitmap.remove(ordinal);
+            expected.remove(ordinal);
+        }
+        bitmap.remove(5); // not in bitmap
+        bitmap.remove(1 << 25); // chunk not in bitmap
+        assertBitmapEquals(expected, bitmap);
+
+        expected.forEach(bitmap::remove);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void setOperations_randomBitmaps_matchTreeSets() {
+        Random random = new Random(2103);
+        // sparse, medium and dense bitmaps, so that every pair of container kinds is combined
+        int[] densities = {100, 4, 1};
+        for (int firstDensity : densities) {
+            for (int secondDensity : densities) {
+                TreeSet<Integer> firstSet = new TreeSet<>();
+                TreeSet<Integer> secondSet = new TreeSet<>();
+                OrdinalBitmap first = randomBitmap(random, firstDensity, firstSet);
+                OrdinalBitmap second = randomBitmap(random, secondDensity, secondSet);
+
+                TreeSet<Integer> expected = new TreeSet<>(firstSet);
+                expected.retainAll(secondSet);
+                assertBitmapEquals(expected, first.and(second));
+
+                expected = new TreeSet<>(firstSet);
+                expected.addAll(secondSet);
+                assertBitmapEquals(expected, first.or(second));
+
+                expected = new TreeSet<>(firstSet);
+                expected.removeAll(secondSet);
+                assertBitmapEquals(expected, first.andNot(second));
+
+                // operands unchanged
+                assertBitmapEquals(firstSet, first);
+                assertBitmapEquals(secondSet, second);
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        bitmap.add(1);
+        bitmap.add(70000);
+        OrdinalBitmap sameBitmap = new OrdinalBitmap();
+        sameBitmap.add(70000);
+        sameBitmap.add(1);
+
+        // same values -> returns true
+        assertTrue(bitmap.equals(sameBitmap));
+
+        // same object -> returns true
+        assertTrue(bitmap.equals(bitmap));
+
+        // null -> returns false
+        assertFalse(bitmap.equals(null));
+
+        // different ordinals -> returns false
+        assertFalse(bitmap.equals(new OrdinalBitmap()));
+    }
+
+    /**
+     * Returns a bitmap of about one in {@code density} ordinals below 3 * 2^16, which are also added to
+     * {@code ordinals}.
+     */
+    private OrdinalBitmap randomBitmap(Random random, int density, TreeSet<Integer> ordinals) {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        for (int ordinal = 0; ordinal < 3 << 16; ordinal++) {
+            if (random.nextInt(density) == 0) {
+                bitmap.add(ordinal);
+                ordinals.add(ordinal);
+            }
+        }
+        return bitmap;
+    }
+
+    private void assertBitmapEquals(TreeSet<Integer> expected, OrdinalBitmap actual) {
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArray());
+        assertEquals(expected.size(), actual.cardinality());
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersonIndex personIndex = new PersonIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        personIndex.add(null);
+    }
+
+    @Test
+    public void getPersonsWithNameWord_wordInNames_returnsPersons() {
+        personIndex.add(ALICE);
+        personIndex.add(BENSON);
+        personIndex.add(DANIEL);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), personIndex.getPersonsWithNameWord("mEIER"));
+        assertEquals(Collections.singleton(ALICE), personIndex.getPersonsWithNameWord("Alice"));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_partOfWord_returnsEmptySet() {
+        personIndex.add(ALICE);
+        assertEquals(Collections.emptySet(), personIndex.getPersonsWithNameWord("Ali"));
+    }
+
+    @Test
+    public void getPersonsWithNameWordPrefix_prefixOfWords_returnsPersons() {
+        Person alison = new PersonBuilder().withName("Alison Meier").build();
+        personIndex.add(ALICE);
+        personIndex.add(BENSON);
+        personIndex.add(alison);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, alison)), personIndex.getPersonsWithNameWordPrefix("aLI"));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, alison)), personIndex.getPersonsWithNameWordPrefix("Mei"));
+        assertEquals(Collections.emptySet(), personIndex.getPersonsWithNameWordPrefix("lice"));
+    }
+
+    @Test
+    public void getPersonsWithNameWordNear_wordsNearby_returnsPersonsWithDistances() {
+        Person elle = new PersonBuilder().withName("Elle Meyer").build();
+        personIndex.add(ALICE);
+        personIndex.add(BENSON);
+        personIndex.add(elle);
+
+        Map<Person, Integer> expected = new HashMap<>();
+        expected.put(BENSON, 0);
+        expected.put(elle, 1);
+        assertEquals(expected, personIndex.getPersonsWithNameWordNear("MEIER", 1));
+        assertEquals(Collections.singletonMap(BENSON, 0), personIndex.getPersonsWithNameWordNear("meier", 0));
+
+        // word no longer in any name -> not returned
+        personIndex.remove(elle);
+        assertEquals(Collections.singletonMap(BENSON, 0), personIndex.getPersonsWithNameWordNear("meier", 1));
+    }
+
+    @Test
+    public void getPersonsWithNameWordNear_severalWordsNearby_returnsLeastDistance() {
+        Person person = new PersonBuilder().withName("Meyer Meier").build();
+        personIndex.add(person);
+        assertEquals(Collections.singletonMap(person, 0), personIndex.getPersonsWithNameWordNear("meier", 1));
+    }
+
+    @Test
+    public void getPersonsWithPhone_phoneOfPersons_returnsPersons() {
+        Person bensonWithAlicePhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        personIndex.add(ALICE);
+        personIndex.add(bensonWithAlicePhone);
+        personIndex.add(DANIEL);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, bensonWithAlicePhone)),
+                personIndex.getPersonsWithPhone(ALICE.getPhone().value));
+        assertEquals(Collections.emptySet(), personIndex.getPersonsWithPhone("999"));
+    }
+
+    @Test
+    public void getPersonsWithEmail_emailOfPerson_returnsPerson() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@Corp.com").build();
+        personIndex.add(ALICE);
+        personIndex.add(amy);
+        assertEquals(Collections.singleton(amy), personIndex.getPersonsWithEmail("AMY@corp.com"));
+        assertEquals(Collections.singleton(amy), personIndex.getPersonsWithEmailDomain("corp.COM"));
+        assertEquals(Collections.singleton(ALICE), personIndex.getPersonsWithEmailDomain("example.com"));
+        assertEquals(Collections.emptySet(), personIndex.getPersonsWithEmailDomain("corp"));
+    }
+
+    @Test
+    public void getPersonsWithAddressWord_wordInAddresses_returnsPersons() {
+        personIndex.add(ALICE); // 123, Jurong West Ave 6, #08-111
+        personIndex.add(BENSON); // 311, Clementi Ave 2, #02-25
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), personIndex.getPersonsWithAddressWord("AVE"));
+        assertEquals(Collections.singleton(BENSON), personIndex.getPersonsWithAddressWord("02"));
+        assertEquals(Collections.emptySet(), personIndex.getPersonsWithAddressWord("#02-25"));
+    }
+
+    @Test
+    public void getPersonsWithTag_tagOfPersons_returnsPersons() {
+        personIndex.add(ALICE); // friends
+        personIndex.add(BENSON); // owesMoney, friends
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), personIndex.getPersonsWithTag("friends"));
+        assertEquals(Collections.singleton(BENSON), personIndex.getPersonsWithTag("owesMoney"));
+
+        personIndex.remove(BENSON);
+        assertEquals(Collections.emptySet(), personIndex.getPersonsWithTag("owesMoney"));
+        assertEquals(1, personIndex.getPersonCount());
+    }
+
+    @Test
+    public void getTagBitmap_personsReplaced_ordinalsReused() {
+        personIndex.add(ALICE); // friends
+        personIndex.add(BENSON); // owesMoney, friends
+        personIndex.remove(ALICE);
+        personIndex.add(DANIEL); // friends
+        assertEquals(2, personIndex.getAllPersonsBitmap().cardinality());
+        assertEquals(2, personIndex.getTagBitmap("friends").cardinality());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                personIndex.getPersons(personIndex.getTagBitmap("friends")));
+        assertEquals(Collections.singleton(DANIEL), personIndex.getPersons(
+                personIndex.getAllPersonsBitmap().andNot(personIndex.getTagBitmap("owesMoney"))));
+        assertTrue(personIndex.getTagBitmap("unknown").isEmpty());
+    }
+
+    @Test
+    public void getAddressWords_address_returnsAlphanumericRuns() {
+        assertEquals(new HashSet<>(Arrays.asList("123", "jurong", "west", "ave", "6", "08", "111")),
+                PersonIndex.getAddressWords("123, Jurong West Ave 6, #08-111"));
+        assertEquals(Collections.emptySet(), PersonIndex.getAddressWords(" #, "));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_repeatedWordInName_returnsPerson() {
+        Person person = new PersonBuilder().withName("Ann Ann").build();
+        personIndex.add(person);
+        assertEquals(Collections.singleton(person), personIndex.getPersonsWithNameWord("ann"));
+        personIndex.remove(person);
+        assertEquals(Collections.emptySet(), personIndex.getPersonsWithNameWord("ann"));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        personIndex.add(BENSON);
+        personIndex.add(DANIEL);
+        personIndex.remove(BENSON);
+        assertEquals(Collections.singleton(DANIEL), personIndex.getPersonsWithNameWord("meier"));
+    }
+}
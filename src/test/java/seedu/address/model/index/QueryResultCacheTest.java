@@ -0,0 +1,77 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+public class QueryResultCacheTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final QueryResultCache cache = new QueryResultCache(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new QueryResultCache(0);
+    }
+
+    @Test
+    public void get_nullPredicate_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        cache.get(null, 0);
+    }
+
+    @Test
+    public void get_predicateNotInCache_returnsEmpty() {
+        assertEquals(Optional.empty(), cache.get(nameIs("alice"), 0));
+    }
+
+    @Test
+    public void get_equalPredicateSameVersion_returnsCachedResult() {
+        Set<Person> matches = Collections.singleton(ALICE);
+        cache.put(nameIs("alice"), 1, matches);
+        assertEquals(Optional.of(matches), cache.get(nameIs("alice"), 1));
+    }
+
+    @Test
+    public void get_differentVersion_returnsEmptyAndDropsResult() {
+        cache.put(nameIs("alice"), 1, Collections.singleton(ALICE));
+        assertEquals(Optional.empty(), cache.get(nameIs("alice"), 2));
+        assertEquals(0, cache.size());
+
+        // result of the earlier version is not returned even for that version again
+        assertEquals(Optional.empty(), cache.get(nameIs("alice"), 1));
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put(nameIs("alice"), 0, Collections.singleton(ALICE));
+        cache.put(nameIs("benson"), 0, Collections.singleton(BENSON));
+
+        // alice is used more recently than benson
+        cache.get(nameIs("alice"), 0);
+        cache.put(nameIs("carl"), 0, Collections.emptySet());
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.get(nameIs("benson"), 0).isPresent());
+        assertEquals(Optional.of(Collections.singleton(ALICE)), cache.get(nameIs("alice"), 0));
+        assertEquals(Optional.of(Collections.emptySet()), cache.get(nameIs("carl"), 0));
+    }
+
+    private static NameContainsKeywordsPredicate nameIs(String keyword) {
+        return new NameContainsKeywordsPredicate(Collections.singletonList(keyword));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TokenIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TokenIndex tokenIndex = new TokenIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        tokenIndex.add(null, Collections.singletonList("alice"));
+    }
+
+    @Test
+    public void getPersons_tokenNotInIndex_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), tokenIndex.getPersons("alice"));
+    }
+
+    @Test
+    public void getPersons_tokenInIndex_returnsPostingList() {
+        tokenIndex.add(ALICE, Arrays.asList("alice", "shared"));
+        tokenIndex.add(BOB, Arrays.asList("bob", "shared"));
+        assertEquals(Collections.singleton(ALICE), tokenIndex.getPersons("alice"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BOB)), tokenIndex.getPersons("shared"));
+        assertEquals(3, tokenIndex.getTokenCount());
+    }
+
+    @Test
+    public void remove_lastPersonWithToken_tokenDropped() {
+        tokenIndex.add(ALICE, Arrays.asList("alice", "shared"));
+        tokenIndex.add(BOB, Arrays.asList("bob", "shared"));
+        tokenIndex.remove(ALICE, Arrays.asList("alice", "shared"));
+        assertEquals(Collections.emptySet(), tokenIndex.getPersons("alice"));
+        assertEquals(Collections.singleton(BOB), tokenIndex.getPersons("shared"));
+        assertEquals(2, tokenIndex.getTokenCount());
+    }
+
+    @Test
+    public void getTokensWithPrefix_prefix_returnsSortedMatchingTokens() {
+        tokenIndex.add(ALICE, Arrays.asList("alison", "alice", "bob"));
+        tokenIndex.add(BOB, Arrays.asList("al", "bob"));
+        assertEquals(Arrays.asList("al", "alice", "alison"), new ArrayList<>(tokenIndex.getTokensWithPrefix("al")));
+        assertEquals(Arrays.asList("alice", "alison"), new ArrayList<>(tokenIndex.getTokensWithPrefix("ali")));
+        assertEquals(Collections.emptySet(), tokenIndex.getTokensWithPrefix("c"));
+
+        tokenIndex.remove(ALICE, Arrays.asList("alison", "alice", "bob"));
+        assertEquals(Collections.singletonList("al"), new ArrayList<>(tokenIndex.getTokensWithPrefix("al")));
+    }
+
+    @Test
+    public void getPersons_modifyPostingList_throwsUnsupportedOperationException() {
+        tokenIndex.add(ALICE, Collections.singletonList("alice"));
+        thrown.expect(UnsupportedOperationException.class);
+        tokenIndex.getPersons("alice").clear();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.index.PersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        AddressContainsKeywordsPredicate firstPredicate =
+                new AddressContainsKeywordsPredicate(Collections.singletonList("first"));
+        AddressContainsKeywordsPredicate secondPredicate =
+                new AddressContainsKeywordsPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AddressContainsKeywordsPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_addressContainsAllKeywords_returnsTrue() {
+        // Mixed-case keywords in a different order
+        AddressContainsKeywordsPredicate predicate =
+                new AddressContainsKeywordsPredicate(Arrays.asList("aVe", "Clementi"));
+        assertTrue(predicate.test(new PersonBuilder().withAddress("311, Clementi Ave 2, #02-25").build()));
+
+        // Keyword with punctuation
+        predicate = new AddressContainsKeywordsPredicate(Collections.singletonList("#02-25"));
+        assertTrue(predicate.test(new PersonBuilder().withAddress("311, Clementi Ave 2, #02-25").build()));
+    }
+
+    @Test
+    public void test_addressDoesNotContainAllKeywords_returnsFalse() {
+        // Zero keywords
+        AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withAddress("Clementi Ave").build()));
+
+        // Only some keywords
+        predicate = new AddressContainsKeywordsPredicate(Arrays.asList("Clementi", "Jurong"));
+        assertFalse(predicate.test(new PersonBuilder().withAddress("Clementi Ave").build()));
+
+        // Only part of a word
+        predicate = new AddressContainsKeywordsPredicate(Collections.singletonList("Clem"));
+        assertFalse(predicate.test(new PersonBuilder().withAddress("Clementi Ave").build()));
+    }
+
+    @Test
+    public void lookUp_matchesTest() {
+        PersonIndex index = new PersonIndex();
+        getTypicalPersons().forEach(index::add);
+
+        AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(Collections.singletonList(
+                "ave"));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+
+        predicate = new AddressContainsKeywordsPredicate(Arrays.asList("Ave", "clementi"));
+        assertEquals(Collections.singleton(BENSON), predicate.lookUp(index));
+        assertEquals(1, predicate.estimateMatches(index));
+
+        predicate = new AddressContainsKeywordsPredicate(Arrays.asList("jurong", "clementi"));
+        assertEquals(Collections.emptySet(), predicate.lookUp(index));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+
+        predicate = new AddressContainsKeywordsPredicate(Collections.singletonList("123,"));
+        assertEquals(Collections.singleton(ALICE), predicate.lookUp(index));
+    }
+}
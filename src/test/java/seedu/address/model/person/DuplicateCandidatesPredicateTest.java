@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import seedu.address.model.person.DuplicateCandidate.Reason;
+
+public class DuplicateCandidatesPredicateTest {
+
+    private static final DuplicateCandidate ALICE_AND_BENSON = new DuplicateCandidate(ALICE, BENSON, 0.9,
+            EnumSet.of(Reason.SAME_PHONE, Reason.SAME_EMAIL));
+    private static final DuplicateCandidate CARL_AND_ALICE = new DuplicateCandidate(CARL, ALICE, 0.5,
+            EnumSet.of(Reason.SIMILAR_NAMES, Reason.SAME_ADDRESS));
+
+    @Test
+    public void equals() {
+        DuplicateCandidatesPredicate firstPredicate =
+                new DuplicateCandidatesPredicate(Collections.singletonList(ALICE_AND_BENSON));
+        DuplicateCandidatesPredicate secondPredicate =
+                new DuplicateCandidatesPredicate(Collections.singletonList(CARL_AND_ALICE));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(
+                new DuplicateCandidatesPredicate(Collections.singletonList(ALICE_AND_BENSON))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different candidates -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personInCandidate_returnsTrue() {
+        DuplicateCandidatesPredicate predicate =
+                new DuplicateCandidatesPredicate(Arrays.asList(ALICE_AND_BENSON, CARL_AND_ALICE));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(CARL));
+    }
+
+    @Test
+    public void test_personNotInCandidate_returnsFalse() {
+        // Zero candidates
+        DuplicateCandidatesPredicate predicate = new DuplicateCandidatesPredicate(Collections.emptyList());
+        assertFalse(predicate.test(ALICE));
+
+        predicate = new DuplicateCandidatesPredicate(Collections.singletonList(ALICE_AND_BENSON));
+        assertFalse(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void getRanking_severalCandidates_personsInOrderOfCandidates() {
+        DuplicateCandidatesPredicate predicate =
+                new DuplicateCandidatesPredicate(Arrays.asList(ALICE_AND_BENSON, CARL_AND_ALICE));
+        List<Person> rankedPersons = Stream.of(CARL, BENSON, ALICE)
+                .sorted(predicate.getRanking().get())
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), rankedPersons);
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.DuplicateCandidate.Reason;
+import seedu.address.testutil.PersonBuilder;
+
+public class DuplicateFinderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final DuplicateFinder finder = new DuplicateFinder();
+
+    @Test
+    public void constructor_blocksTooSmall_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new DuplicateFinder(1);
+    }
+
+    @Test
+    public void findDuplicates_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        finder.findDuplicates(null);
+    }
+
+    @Test
+    public void findDuplicates_noDuplicates_returnsEmptyList() {
+        assertTrue(finder.findDuplicates(new ArrayList<>()).isEmpty());
+        assertTrue(finder.findDuplicates(getTypicalPersons()).isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_similarNamesAndSameField_candidateFound() {
+        // names that sound alike, and phones that differ only by a country code
+        Person alyce = new PersonBuilder(ALICE).withName("Alyce Pauline").withPhone("6594351253")
+                .withEmail("alyce@example.com").withAddress("wall street").build();
+        assertCandidate(ALICE, alyce, EnumSet.of(Reason.SIMILAR_NAMES, Reason.SAME_PHONE),
+                finder.findDuplicates(Arrays.asList(ALICE, BENSON, alyce)));
+
+        // names in a different order, and emails that differ only by case and a label
+        Person paulineAlice = new PersonBuilder(ALICE).withName("Pauline Alice").withPhone("12345678")
+                .withEmail("Alice+Work@example.com").withAddress("wall street").build();
+        assertCandidate(ALICE, paulineAlice, EnumSet.of(Reason.SIMILAR_NAMES, Reason.SAME_EMAIL),
+                finder.findDuplicates(Arrays.asList(ALICE, paulineAlice)));
+
+        // names with a typo, and addresses that differ only by punctuation
+        Person bensonMeir = new PersonBuilder(BENSON).withName("Benson Meir").withPhone("12345678")
+                .withEmail("benson@example.com").withAddress("311 Clementi Ave 2 #02 25").build();
+        assertCandidate(BENSON, bensonMeir, EnumSet.of(Reason.SIMILAR_NAMES, Reason.SAME_ADDRESS),
+                finder.findDuplicates(Arrays.asList(BENSON, bensonMeir)));
+    }
+
+    @Test
+    public void findDuplicates_samePhoneAndEmail_candidateFound() {
+        Person other = new PersonBuilder(CARL).withName("Heinz Kurz").withAddress("main street").build();
+        assertCandidate(CARL, other, EnumSet.of(Reason.SAME_PHONE, Reason.SAME_EMAIL),
+                finder.findDuplicates(Arrays.asList(CARL, other)));
+    }
+
+    @Test
+    public void findDuplicates_notLikelyDuplicates_returnsEmptyList() {
+        // same phone and address, but different names
+        Person sharingHome = new PersonBuilder(CARL).withName("Heinz Kurz").withEmail("heinz.kurz@example.com")
+                .build();
+        assertTrue(finder.findDuplicates(Arrays.asList(CARL, sharingHome)).isEmpty());
+
+        // similar names, but nothing else shared
+        Person namesake = new PersonBuilder().withName("Karl Kurz").withPhone("12345678")
+                .withEmail("karl@example.com").withAddress("main street").build();
+        assertTrue(finder.findDuplicates(Arrays.asList(CARL, namesake)).isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_severalCandidates_closestMatchesFirst() {
+        Person alyce = new PersonBuilder(ALICE).withName("Alyce Pauline").withEmail("alyce@example.com").build();
+        Person carlKurtz = new PersonBuilder(CARL).withName("Carl Kurtz").build();
+        List<DuplicateCandidate> candidates = finder.findDuplicates(Arrays.asList(ALICE, CARL, alyce, carlKurtz));
+
+        assertEquals(2, candidates.size());
+        assertEquals(CARL, candidates.get(0).getFirst());
+        assertEquals(carlKurtz, candidates.get(0).getSecond());
+        assertEquals(ALICE, candidates.get(1).getFirst());
+        assertEquals(alyce, candidates.get(1).getSecond());
+        assertTrue(candidates.get(0).getScore() > candidates.get(1).getScore());
+    }
+
+    @Test
+    public void findDuplicates_blockTooLarge_blockSkipped() {
+        Person alyce = new PersonBuilder(ALICE).withName("Alyce Pauline").withEmail("alyce@example.com").build();
+        Person sharingPhone = new PersonBuilder(ALICE).withName("Benson Meier").withEmail("benson@example.com")
+                .build();
+        List<Person> persons = Arrays.asList(ALICE, alyce, sharingPhone);
+
+        // the names of ALICE and alyce are in a block of their own
+        assertEquals(1, new DuplicateFinder(2).findDuplicates(persons).size());
+
+        // the names of ALICE and alyce are similar, but do not sound alike
+        alyce = new PersonBuilder(alyce).withName("Elice Pauline").build();
+        persons = Arrays.asList(ALICE, alyce, sharingPhone);
+        assertEquals(1, new DuplicateFinder(3).findDuplicates(persons).size());
+        assertTrue(new DuplicateFinder(2).findDuplicates(persons).isEmpty());
+    }
+
+    /**
+     * Asserts that {@code candidates} holds only a candidate of {@code first} and {@code second}, for
+     * {@code expectedReasons}.
+     */
+    private void assertCandidate(Person first, Person second, EnumSet<Reason> expectedReasons,
+            List<DuplicateCandidate> candidates) {
+        assertEquals(1, candidates.size());
+        DuplicateCandidate candidate = candidates.get(0);
+        assertEquals(first, candidate.getFirst());
+        assertEquals(second, candidate.getSecond());
+        assertEquals(expectedReasons, candidate.getReasons());
+        assertTrue(candidate.getScore() > 0 && candidate.getScore() <= 1);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.index.PersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        EmailMatchesPredicate firstPredicate = new EmailMatchesPredicate(Collections.singletonList("a@example.com"));
+        EmailMatchesPredicate secondPredicate = new EmailMatchesPredicate(Collections.singletonList("@example.com"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EmailMatchesPredicate(Collections.singletonList("a@example.com"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different patterns -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_emailMatchesPatterns_returnsTrue() {
+        // Same email, different case
+        EmailMatchesPredicate predicate = new EmailMatchesPredicate(Collections.singletonList("Alice@Example.com"));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("alice@example.com").build()));
+
+        // Same domain
+        predicate = new EmailMatchesPredicate(Arrays.asList("bob@example.com", "@CORP.com"));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("alice@corp.com").build()));
+    }
+
+    @Test
+    public void test_emailDoesNotMatchPatterns_returnsFalse() {
+        // Zero patterns
+        EmailMatchesPredicate predicate = new EmailMatchesPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@corp.com").build()));
+
+        // Only the local part
+        predicate = new EmailMatchesPredicate(Collections.singletonList("alice"));
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@corp.com").build()));
+
+        // Only part of the domain
+        predicate = new EmailMatchesPredicate(Collections.singletonList("@corp"));
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@corp.com").build()));
+    }
+
+    @Test
+    public void lookUp_matchesTest() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@corp.com").build();
+        List<Person> persons = getTypicalPersons();
+        persons.add(amy);
+        PersonIndex index = new PersonIndex();
+        persons.forEach(index::add);
+
+        EmailMatchesPredicate predicate = new EmailMatchesPredicate(Arrays.asList("@corp.com",
+                ALICE.getEmail().value));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, amy)), predicate.lookUp(index));
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toSet()), predicate.lookUp(index));
+
+        predicate = new EmailMatchesPredicate(Collections.singletonList("@example.com"));
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toSet()), predicate.lookUp(index));
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class HasTagsPredicateTest {
+
+    @Test
+    public void equals() {
+        HasTagsPredicate firstPredicate = new HasTagsPredicate(Collections.singleton(new Tag("first")));
+        HasTagsPredicate secondPredicate = new HasTagsPredicate(Collections.singleton(new Tag("second")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new HasTagsPredicate(Collections.singleton(new Tag("first")))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_hasAllTags_returnsTrue() {
+        HasTagsPredicate predicate = new HasTagsPredicate(new HashSet<>(Arrays.asList(new Tag("friends"),
+                new Tag("colleagues"))));
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues", "friends", "family").build()));
+    }
+
+    @Test
+    public void test_doesNotHaveAllTags_returnsFalse() {
+        // Zero tags
+        HasTagsPredicate predicate = new HasTagsPredicate(Collections.emptySet());
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // Only some tags
+        predicate = new HasTagsPredicate(new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues"))));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // Different case
+        predicate = new HasTagsPredicate(Collections.singleton(new Tag("Friends")));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void test_tagGroupsAndExcludedTags_matchesQuery() {
+        // colleagues or friends, but not family
+        HasTagsPredicate predicate = new HasTagsPredicate(
+                Collections.singletonList(new HashSet<>(Arrays.asList(new Tag("colleagues"), new Tag("friends")))),
+                Collections.singleton(new Tag("family")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues", "gym").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("colleagues", "family").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("gym").build()));
+
+        // only excluded tags
+        predicate = new HasTagsPredicate(Collections.emptyList(), Collections.singleton(new Tag("family")));
+        assertTrue(predicate.test(new PersonBuilder().withTags().build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("family").build()));
+    }
+
+    @Test
+    public void lookUp_matchesTest() {
+        PersonIndex index = new PersonIndex();
+        getTypicalPersons().forEach(index::add);
+
+        HasTagsPredicate predicate = new HasTagsPredicate(Collections.singleton(new Tag("friends")));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+
+        predicate = new HasTagsPredicate(new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney"))));
+        assertEquals(Collections.singleton(BENSON), predicate.lookUp(index));
+        assertEquals(1, predicate.estimateMatches(index));
+
+        // friends but not owesMoney
+        predicate = new HasTagsPredicate(Collections.singletonList(Collections.singleton(new Tag("friends"))),
+                Collections.singleton(new Tag("owesMoney")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, DANIEL)), predicate.lookUp(index));
+
+        // not friends
+        predicate = new HasTagsPredicate(Collections.emptyList(), Collections.singleton(new Tag("friends")));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+        assertEquals(getTypicalPersons().size(), predicate.estimateMatches(index));
+
+        // owesMoney or unknown tag
+        predicate = new HasTagsPredicate(Collections.singletonList(new HashSet<>(Arrays.asList(new Tag("owesMoney"),
+                new Tag("unknown")))), Collections.emptySet());
+        assertEquals(Collections.singleton(BENSON), predicate.lookUp(index));
+    }
+}
@@ -1,14 +1,26 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import seedu.address.model.index.PersonIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -57,6 +69,78 @@ public class NameContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
+    @Test
+    public void test_nameContainsWordsWithPrefixKeywords_returnsTrue() {
+        // One prefix keyword
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("ali*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alison").build()));
+
+        // Whole word as prefix keyword
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Bob*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Mixed prefix and whole word keywords
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol", "bo*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotContainWordsWithPrefixKeywords_returnsFalse() {
+        // Prefix keyword in the middle of a word
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("lic*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword longer than word
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Alicia*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameContainsWordsNearFuzzyKeywords_returnsTrue() {
+        // Misspelt keyword
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("alise~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Long keyword with two typos
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("paulien~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+
+        // Exact word, different case
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("bOB~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotContainWordsNearFuzzyKeywords_returnsFalse() {
+        // Too many typos for the length of the keyword
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("alcie~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Short keywords must match exactly
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Bo~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void getRanking_fuzzyKeywords_ranksByDistance() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person alise = new PersonBuilder().withName("Alise Bob").build();
+        Person elise = new PersonBuilder().withName("Elise").build();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("bob", "alice~"));
+        List<Person> persons = Arrays.asList(elise, alise, alice);
+        persons.sort(predicate.getRanking().get());
+        // Alise matches bob exactly, so ties with Alice
+        assertEquals(Arrays.asList(alise, alice, elise), persons);
+    }
+
+    @Test
+    public void getRanking_noFuzzyKeywords_notRanked() {
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("alice", "bo*")).getRanking().isPresent());
+    }
+
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
@@ -72,4 +156,36 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void lookUp_matchesTest() {
+        PersonIndex index = new PersonIndex();
+        getTypicalPersons().forEach(index::add);
+
+        // keywords matching several persons, in mixed case
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("meier", "KURZ"));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, CARL, DANIEL)), predicate.lookUp(index));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+
+        // keyword that is only part of a name
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Mei"));
+        assertEquals(Collections.emptySet(), predicate.lookUp(index));
+
+        // prefix keywords
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Al*", "c*", "Ku*"));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+
+        // fuzzy keywords
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Meyer~", "kunz~", "Pualine~", "Bes~"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE)),
+                predicate.lookUp(index));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+
+        // zero keywords
+        predicate = new NameContainsKeywordsPredicate(Collections.emptyList());
+        assertEquals(Collections.emptySet(), predicate.lookUp(index));
+    }
 }
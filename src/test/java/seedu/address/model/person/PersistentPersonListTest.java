@@ -0,0 +1,193 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentPersonListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_list_containsPersonsInOrder() {
+        List<Person> persons = getTypicalPersons();
+        PersistentPersonList list = PersistentPersonList.of(persons);
+        assertEquals(persons.size(), list.size());
+        assertEquals(persons, list.toList());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void of_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentPersonList.of(null);
+    }
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentPersonList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentPersonList.empty().toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentPersonList.of(Arrays.asList(ALICE, BOB)).get(2);
+    }
+
+    @Test
+    public void add_invalidIndex_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentPersonList.empty().add(1, ALICE);
+    }
+
+    @Test
+    public void updates_originalListUnchanged() {
+        PersistentPersonList original = PersistentPersonList.of(Arrays.asList(ALICE, BENSON));
+
+        assertEquals(Arrays.asList(ALICE, CARL), original.set(1, CARL).toList());
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), original.add(1, CARL).toList());
+        assertEquals(Collections.singletonList(BENSON), original.remove(0).toList());
+        assertEquals(Arrays.asList(ALICE, BENSON), original.toList());
+    }
+
+    @Test
+    public void updates_randomSequence_matchesArrayList() {
+        List<Person> persons = getTypicalPersons();
+        Random random = new Random(2103);
+        List<Person> expected = new ArrayList<>();
+        PersistentPersonList actual = PersistentPersonList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                actual = actual.add(index, person);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                actual = actual.set(index, person);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void subList_validRange_returnsPersonsInRange() {
+        List<Person> persons = getTypicalPersons();
+        PersistentPersonList list = PersistentPersonList.of(persons);
+        for (int from = 0; from <= persons.size(); from++) {
+            for (int to = from; to <= persons.size(); to++) {
+                assertEquals(persons.subList(from, to), list.subList(from, to));
+            }
+        }
+    }
+
+    @Test
+    public void subList_invalidRange_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentPersonList.of(Arrays.asList(ALICE, BOB)).subList(1, 3);
+    }
+
+    @Test
+    public void getCommonPrefixAndSuffixLength_derivedLists_matchPersonByPersonComparison() {
+        List<Person> persons = getTypicalPersons();
+        Random random = new Random(2103);
+        PersistentPersonList original = PersistentPersonList.empty();
+        for (int i = 0; i < 500; i++) {
+            original = original.add(random.nextInt(original.size() + 1), copyOf(persons.get(i % persons.size())));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            PersistentPersonList derived = original;
+            for (int j = random.nextInt(4); j > 0; j--) {
+                int operation = derived.isEmpty() ? 0 : random.nextInt(3);
+                Person person = copyOf(persons.get(random.nextInt(persons.size())));
+                if (operation == 0) {
+                    derived = derived.add(random.nextInt(derived.size() + 1), person);
+                } else if (operation == 1) {
+                    derived = derived.set(random.nextInt(derived.size()), person);
+                } else {
+                    derived = derived.remove(random.nextInt(derived.size()));
+                }
+            }
+
+            List<Person> originalPersons = original.toList();
+            List<Person> derivedPersons = derived.toList();
+            int prefixLength = original.getCommonPrefixLength(derived);
+            assertEquals(countSamePersons(originalPersons, derivedPersons), prefixLength);
+            int limit = Math.min(original.size(), derived.size()) - prefixLength;
+            Collections.reverse(originalPersons);
+            Collections.reverse(derivedPersons);
+            assertEquals(Math.min(limit, countSamePersons(originalPersons, derivedPersons)),
+                    original.getCommonSuffixLength(derived, limit));
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, BOB));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentPersonList.of(Arrays.asList(ALICE, BOB))));
+        assertTrue(list.equals(PersistentPersonList.of(Collections.singletonList(BOB)).add(0, ALICE)));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different types -> returns false
+        assertFalse(list.equals(Arrays.asList(ALICE, BOB)));
+
+        // different order -> returns false
+        assertFalse(list.equals(PersistentPersonList.of(Arrays.asList(BOB, ALICE))));
+
+        // different persons -> returns false
+        assertFalse(list.equals(PersistentPersonList.of(Arrays.asList(ALICE, CARL))));
+    }
+
+    /**
+     * Returns the number of persons at the start of {@code persons} that are the same objects as those at the start of
+     * {@code otherPersons}.
+     */
+    private static int countSamePersons(List<Person> persons, List<Person> otherPersons) {
+        int count = 0;
+        while (count < persons.size() && count < otherPersons.size()
+                && persons.get(count) == otherPersons.get(count)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static Person copyOf(Person person) {
+        return new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getTags());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -58,12 +59,30 @@ public class PersonTest {
         assertTrue(ALICE.isSamePerson(editedAlice));
     }
 
+    @Test
+    public void constructor_noId_newIdGiven() {
+        Person person = new PersonBuilder().build();
+        Person otherPerson = new PersonBuilder().build();
+        assertTrue(person.getId() != otherPerson.getId());
+    }
+
+    @Test
+    public void constructor_id_laterPersonsGivenGreaterIds() {
+        long id = ALICE.getId() + 1000;
+        assertEquals(id, new PersonBuilder().withId(id).build().getId());
+        assertTrue(new PersonBuilder().build().getId() > id);
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
         Person aliceCopy = new PersonBuilder(ALICE).build();
         assertTrue(ALICE.equals(aliceCopy));
 
+        // same values, different ID -> returns true
+        assertTrue(ALICE.getId() != aliceCopy.getId());
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+
         // same object -> returns true
         assertTrue(ALICE.equals(ALICE));
 
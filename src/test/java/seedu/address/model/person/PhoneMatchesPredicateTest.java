@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.index.PersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        PhoneMatchesPredicate firstPredicate = new PhoneMatchesPredicate(Collections.singletonList(ALICE.getPhone()));
+        PhoneMatchesPredicate secondPredicate = new PhoneMatchesPredicate(Collections.singletonList(BENSON.getPhone()));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneMatchesPredicate(Collections.singletonList(ALICE.getPhone()))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different phones -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_phoneIsAnyOfPhones_returnsTrue() {
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(Arrays.asList(new Phone("123"), new Phone("456")));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("456").build()));
+    }
+
+    @Test
+    public void test_phoneIsNoneOfPhones_returnsFalse() {
+        // Zero phones
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withPhone("456").build()));
+
+        // Only part of the phone
+        predicate = new PhoneMatchesPredicate(Collections.singletonList(new Phone("456")));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("4567").build()));
+    }
+
+    @Test
+    public void lookUp_matchesTest() {
+        PersonIndex index = new PersonIndex();
+        getTypicalPersons().forEach(index::add);
+
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(Arrays.asList(ALICE.getPhone(), BENSON.getPhone(),
+                new Phone("999")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), predicate.lookUp(index));
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.lookUp(index));
+        assertEquals(2, predicate.estimateMatches(index));
+    }
+}
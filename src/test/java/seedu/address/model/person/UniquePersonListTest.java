@@ -4,10 +4,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +22,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -26,6 +34,9 @@ public class UniquePersonListTest {
 
     private final UniquePersonList uniquePersonList = new UniquePersonList();
 
+    /** Holds on to the list being observed by {@code recordChanges()}, so that its listener is not dropped. */
+    private ObservableList<Person> observedList;
+
     @Test
     public void contains_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -51,6 +62,43 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameAndEmailInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personWithSameNameOnlyInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_personReplacedBySetPersons_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -64,6 +112,36 @@ public class UniquePersonListTest {
         uniquePersonList.add(ALICE);
     }
 
+    @Test
+    public void addAll_newPersons_addedInSingleChange() {
+        uniquePersonList.add(ALICE);
+        List<List<Object>> changes = recordChanges();
+
+        uniquePersonList.addAll(Arrays.asList(BENSON, CARL));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertEquals(Collections.singletonList(Arrays.asList(1, Collections.emptyList(),
+                Arrays.asList(BENSON, CARL))), changes);
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        try {
+            uniquePersonList.addAll(Arrays.asList(BENSON, ALICE));
+            throw new AssertionError("The operation should have failed.");
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+            assertFalse(uniquePersonList.contains(BENSON));
+        }
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.addAll(Arrays.asList(BENSON, BENSON));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +217,112 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_afterPersonsBeforeItRemoved_removesPerson() {
+        List<Person> persons = createPersons(10);
+        uniquePersonList.setPersons(persons);
+        uniquePersonList.remove(persons.get(2));
+        uniquePersonList.remove(persons.get(0));
+        uniquePersonList.setPerson(persons.get(9), ALICE);
+        uniquePersonList.remove(persons.get(5));
+        uniquePersonList.addAll(Arrays.asList(BENSON, CARL));
+        uniquePersonList.remove(persons.get(8));
+        uniquePersonList.remove(BENSON);
+
+        assertEquals(Arrays.asList(persons.get(1), persons.get(3), persons.get(4), persons.get(6), persons.get(7),
+                ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personsSharingId_removesEquivalentPerson() {
+        Person alice = new PersonBuilder(ALICE).withId(ALICE.getId()).build();
+        Person benson = new PersonBuilder(BENSON).withId(ALICE.getId()).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson));
+        uniquePersonList.remove(benson);
+        assertEquals(Collections.singletonList(alice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void removeAll_manyPersons_keptPersonsInOrder() {
+        List<Person> persons = createPersons(100);
+        uniquePersonList.setPersons(persons);
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> keptPersons = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % 3 == 1) {
+                keptPersons.add(persons.get(i));
+            } else {
+                removedPersons.add(persons.get(i));
+            }
+        }
+
+        uniquePersonList.removeAll(removedPersons);
+        assertEquals(keptPersons, uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(removedPersons.get(0)));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        try {
+            uniquePersonList.removeAll(Arrays.asList(ALICE, CARL));
+            throw new AssertionError("The expected PersonNotFoundException was not thrown.");
+        } catch (PersonNotFoundException pnfe) {
+            assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+            assertTrue(uniquePersonList.contains(ALICE));
+        }
+    }
+
+    @Test
+    public void setPersonsOfTargets_editedPersons_targetsReplaced() {
+        List<Person> persons = createPersons(100);
+        uniquePersonList.setPersons(persons);
+        List<List<Object>> changes = recordChanges();
+
+        List<Person> targets = Arrays.asList(persons.get(90), persons.get(10));
+        List<Person> editedPersons = Arrays.asList(new PersonBuilder(persons.get(90)).withTags("edited").build(),
+                new PersonBuilder(persons.get(10)).withName("Edited Person").build());
+        uniquePersonList.setPersons(targets, editedPersons);
+
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        expectedPersons.set(90, editedPersons.get(0));
+        expectedPersons.set(10, editedPersons.get(1));
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+        // only the range spanning the targets is changed
+        assertTrue(changes.stream().allMatch(change -> (int) change.get(0) == 10));
+        assertFalse(uniquePersonList.contains(persons.get(10)));
+        assertTrue(uniquePersonList.contains(editedPersons.get(1)));
+    }
+
+    @Test
+    public void setPersonsOfTargets_duplicateEditedPerson_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        try {
+            uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON),
+                    Arrays.asList(new PersonBuilder(ALICE).withTags().build(), CARL));
+            throw new AssertionError("The expected DuplicatePersonException was not thrown.");
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+            assertTrue(uniquePersonList.contains(BENSON));
+        }
+    }
+
+    @Test
+    public void setPersonsOfTargets_targetDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.setPersons(Collections.singletonList(BOB), Collections.singletonList(AMY));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,9 +361,101 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithPersonsOfSameNameAndEmail_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_ownListUnchanged() {
+        uniquePersonList.add(BOB);
+        try {
+            uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE));
+        } catch (DuplicatePersonException dpe) {
+            // expected
+        }
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setUniquePersons_onePersonReplaced_onlyReplacedPersonChanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        List<List<Object>> changes = recordChanges();
+
+        uniquePersonList.setUniquePersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertEquals(Collections.singletonList(Arrays.asList(1, Collections.singletonList(BENSON),
+                Collections.singletonList(BOB))), changes);
+    }
+
+    @Test
+    public void setPersons_onePersonRemoved_onlyRemovedPersonChanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        List<List<Object>> changes = recordChanges();
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, CARL));
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertEquals(Collections.singletonList(Arrays.asList(1, Collections.singletonList(BENSON),
+                Collections.emptyList())), changes);
+    }
+
+    @Test
+    public void setPersons_samePersons_noChanges() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        List<List<Object>> changes = recordChanges();
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void replaceUniquePersons_range_replacesRange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.replaceUniquePersons(1, 1, Arrays.asList(AMY, BOB));
+        assertEquals(Arrays.asList(ALICE, AMY, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(AMY));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asUnmodifiableObservableList().remove(0);
     }
+
+    /**
+     * Returns {@code count} persons with different names.
+     */
+    private List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a list that records the changes made to {@code uniquePersonList} from now on.
+     * Each change is recorded as its starting index, the persons removed and the persons added.
+     */
+    private List<List<Object>> recordChanges() {
+        List<List<Object>> changes = new ArrayList<>();
+        observedList = uniquePersonList.asUnmodifiableObservableList();
+        observedList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(Arrays.asList(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        });
+        return changes;
+    }
 }
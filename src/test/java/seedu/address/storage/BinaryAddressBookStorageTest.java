@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readAddressBook(null);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_emptyAddressBook_success() throws Exception {
+        storage.saveAddressBook(new AddressBook());
+        assertReadBack(new AddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_nonAsciiFields_success() throws Exception {
+        Person person = new PersonBuilder(ALICE).withAddress("Zoë Müller, 東京都 渋谷区 1-2-3 🏠").build();
+        AddressBook original = new AddressBookBuilder().withPerson(person).build();
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanXml() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.size(filePath) * 3 < Files.size(xmlFilePath));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "<addressbook/>".getBytes(StandardCharsets.UTF_8));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        byte[] bytes = Arrays.copyOf(BinaryAddressBookStorage.MAGIC, BinaryAddressBookStorage.MAGIC.length + 3);
+        bytes[BinaryAddressBookStorage.MAGIC.length] = BinaryAddressBookStorage.VERSION + 1;
+        Files.write(filePath, bytes);
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_fileCutShort_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidField_throwsDataConversionException() throws Exception {
+        // an email without a domain is written as is, but is not valid when read back
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        byte[] bytes = Files.readAllBytes(filePath);
+        String email = ALICE.getEmail().value;
+        int at = new String(bytes, StandardCharsets.ISO_8859_1).indexOf(email) + email.indexOf('@');
+        bytes[at] = 'x';
+        Files.write(filePath, bytes);
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveAddressBook(null);
+    }
+
+    /**
+     * Asserts that the address book read from {@code filePath} has the same persons, with the same IDs, as
+     * {@code expected}.
+     */
+    private void assertReadBack(ReadOnlyAddressBook expected) throws Exception {
+        ReadOnlyAddressBook actual = storage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(actual));
+        assertEquals(getIds(expected), getIds(actual));
+    }
+
+    private List<Long> getIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CsvContactReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_validRecords_fieldsRead() throws Exception {
+        ContactReader reader = createReader("\uFEFFname,PHONE,email,Address,tags\n"
+                + "Amy Bee,11111111,amy@example.com,\"123, Jurong West\",friends; husband\n"
+                + "\n"
+                + "Bob Choo,22222222,bob@example.com,Block 123,\n");
+
+        assertEquals(Optional.of(new ContactRecord(2, "Amy Bee", "11111111", "amy@example.com", "123, Jurong West",
+                Arrays.asList("friends", "husband"))), reader.read());
+        assertEquals(Optional.of(new ContactRecord(4, "Bob Choo", "22222222", "bob@example.com", "Block 123",
+                Collections.emptyList())), reader.read());
+        assertFalse(reader.read().isPresent());
+    }
+
+    @Test
+    public void read_columnsInAnyOrder_fieldsRead() throws Exception {
+        ContactReader reader = createReader("Notes,Address,Email,Phone,Name\n"
+                + "ignored,Block 123,amy@example.com,11111111,Amy Bee\n");
+
+        assertEquals(Optional.of(new ContactRecord(2, "Amy Bee", "11111111", "amy@example.com", "Block 123",
+                Collections.emptyList())), reader.read());
+    }
+
+    @Test
+    public void read_quotedFieldOverSeveralLines_fieldRead() throws Exception {
+        ContactReader reader = createReader("name,phone,email,address\n"
+                + "\"Amy \"\"A\"\" Bee\",11111111,amy@example.com,\"Block 123\n"
+                + "Jurong West\"\n"
+                + "Bob Choo,22222222,bob@example.com,Block 456\n");
+
+        assertEquals(Optional.of(new ContactRecord(2, "Amy \"A\" Bee", "11111111", "amy@example.com",
+                "Block 123\nJurong West", Collections.emptyList())), reader.read());
+        assertEquals(4, reader.read().get().getLineNumber());
+    }
+
+    @Test
+    public void read_missingFields_fieldsNull() throws Exception {
+        ContactReader reader = createReader("name,phone,email,address\n"
+                + "Amy Bee,11111111\n");
+
+        assertEquals(Optional.of(new ContactRecord(2, "Amy Bee", "11111111", null, null, Collections.emptyList())),
+                reader.read());
+    }
+
+    @Test
+    public void read_emptyFile_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage(CsvContactReader.MESSAGE_MISSING_HEADER);
+        createReader("").read();
+    }
+
+    @Test
+    public void read_missingColumn_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage(String.format(CsvContactReader.MESSAGE_MISSING_COLUMN, CsvContactReader.COLUMN_EMAIL));
+        createReader("name,phone,address\n").read();
+    }
+
+    @Test
+    public void read_unterminatedQuote_throwsIoException() throws Exception {
+        ContactReader reader = createReader("name,phone,email,address\n"
+                + "Amy Bee,11111111,amy@example.com,Block 123\n"
+                + "Bob Choo,22222222,bob@example.com,\"Block 456\n");
+        reader.read();
+
+        thrown.expect(IOException.class);
+        thrown.expectMessage(String.format(CsvContactReader.MESSAGE_UNTERMINATED_QUOTE, 3));
+        reader.read();
+    }
+
+    private ContactReader createReader(String contents) {
+        return new CsvContactReader(new BufferedReader(new StringReader(contents)));
+    }
+}
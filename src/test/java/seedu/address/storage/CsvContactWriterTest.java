@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvContactWriterTest {
+
+    private static final String HEADER = "name,phone,email,address,tags\r\n";
+
+    @Test
+    public void write_noPersons_headerWritten() throws Exception {
+        StringWriter output = new StringWriter();
+        new CsvContactWriter(output).close();
+        assertEquals(HEADER, output.toString());
+    }
+
+    @Test
+    public void write_persons_oneRecordEach() throws Exception {
+        StringWriter output = new StringWriter();
+        try (ContactWriter writer = new CsvContactWriter(output)) {
+            writer.write(ALICE);
+            writer.write(CARL);
+        }
+        assertEquals(HEADER
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends\r\n"
+                + "Carl Kurz,95352563,heinz@example.com,wall street,\r\n", output.toString());
+    }
+
+    @Test
+    public void write_fieldWithQuotes_quotesDoubled() throws Exception {
+        Person person = new PersonBuilder().withAddress("Block \"A\"").build();
+        StringWriter output = new StringWriter();
+        try (ContactWriter writer = new CsvContactWriter(output)) {
+            writer.write(person);
+        }
+        assertEquals(HEADER + "Alice Pauline,85355255,alice@gmail.com,\"Block \"\"A\"\"\",\r\n",
+                output.toString());
+    }
+}
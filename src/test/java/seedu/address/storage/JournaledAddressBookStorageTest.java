@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalPath;
+    private XmlAddressBookStorage checkpointStorage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        checkpointStorage = new XmlAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void constructor_nonPositiveCompactionThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournaledAddressBookStorage(checkpointStorage, 0);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(checkpointStorage).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_checkpointSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(checkpointStorage).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(checkpointStorage.readAddressBook().get()));
+        assertEquals(1, getJournalLineCount());
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_personsChanged_onlyChangesJournaled() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] checkpoint = Files.readAllBytes(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.updatePerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").withId(BENSON.getId())
+                .build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(CARL);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        // nothing changed
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(checkpoint, Files.readAllBytes(filePath));
+        assertEquals(4, getJournalLineCount());
+        assertReadBack(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsChanged_onlyChangesJournaled() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage);
+        PersistentPersonList persons = PersistentPersonList.of(getTypicalAddressBook().getPersonList());
+        storage.saveAddressBook(new AddressBookSnapshot(persons));
+
+        persons = persons.add(persons.size(), HOON);
+        storage.saveAddressBook(new AddressBookSnapshot(persons));
+        persons = persons.set(1, new PersonBuilder(BENSON).withPhone("11111111").withId(BENSON.getId()).build());
+        persons = persons.remove(0);
+        storage.saveAddressBook(new AddressBookSnapshot(persons));
+
+        assertEquals(3, getJournalLineCount());
+        assertReadBack(new AddressBook(new AddressBookSnapshot(persons)));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_checkpointSaved() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage);
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build());
+
+        AddressBook reordered = new AddressBookBuilder().withPerson(CARL).withPerson(BENSON).withPerson(ALICE).build();
+        storage.saveAddressBook(reordered);
+        assertEquals(1, getJournalLineCount());
+        assertReadBack(reordered);
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_changesJournaled() throws Exception {
+        new JournaledAddressBookStorage(checkpointStorage).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, getJournalLineCount());
+        assertReadBack(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_moreChangesThanCompactionThreshold_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        for (Person person : new Person[] {HOON, IDA}) {
+            addressBook.addPerson(person);
+            storage.saveAddressBook(addressBook);
+        }
+        storage.waitForCompaction();
+        assertEquals(3, getJournalLineCount());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.waitForCompaction();
+
+        assertEquals(addressBook, new AddressBook(checkpointStorage.readAddressBook().get()));
+        assertEquals(1, getJournalLineCount());
+        assertReadBack(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_journalCutShort_changesBeforeCutReplayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "{\"updated\":[{\"index\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertReadBack(addressBook);
+
+        // changes cannot be appended after the cut, so a checkpoint is saved
+        storage = new JournaledAddressBookStorage(checkpointStorage);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, getJournalLineCount());
+        assertReadBack(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_checkpointSavedWithoutJournal_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook savedWithoutJournal = new AddressBookBuilder().withPerson(ALICE).build();
+        checkpointStorage.saveAddressBook(savedWithoutJournal);
+        assertReadBack(savedWithoutJournal);
+    }
+
+    @Test
+    public void readAddressBook_compactionCutShort_compactionCompleted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(checkpointStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // the new checkpoint was moved over the old one, but the new journal was not
+        checkpointStorage.saveAddressBook(addressBook);
+        Path newJournalPath = journalPath.resolveSibling(journalPath.getFileName()
+                + JournaledAddressBookStorage.NEW_FILE_SUFFIX);
+        String header = "{\"" + JournaledAddressBookStorage.FIELD_CHECKPOINT + "\":"
+                + JournaledAddressBookStorage.getChecksum(filePath) + "}\n";
+        Files.write(newJournalPath, header.getBytes(StandardCharsets.UTF_8));
+
+        assertReadBack(addressBook);
+        assertFalse(Files.exists(newJournalPath));
+        assertEquals(1, getJournalLineCount());
+    }
+
+    /**
+     * Asserts that the address book read from {@code filePath} by a new {@code JournaledAddressBookStorage} has the
+     * same persons, with the same IDs, as {@code expected}.
+     */
+    private void assertReadBack(ReadOnlyAddressBook expected) throws Exception {
+        ReadOnlyAddressBook actual = new JournaledAddressBookStorage(checkpointStorage).readAddressBook().get();
+        assertEquals(expected, new AddressBook(actual));
+        assertEquals(getIds(expected), getIds(actual));
+    }
+
+    private List<Long> getIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+
+    private int getJournalLineCount() throws IOException {
+        return Files.readAllLines(journalPath, StandardCharsets.UTF_8).size();
+    }
+}
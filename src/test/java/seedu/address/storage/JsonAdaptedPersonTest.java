@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.Assert;
+
+public class JsonAdaptedPersonTest {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    public void toModelType_writtenWithId_returnsSamePersonWithId() throws Exception {
+        Person person = read(write(BENSON, true)).toModelType();
+        assertEquals(BENSON, person);
+        assertEquals(BENSON.getId(), person.getId());
+    }
+
+    @Test
+    public void read_writtenWithoutId_noId() throws Exception {
+        JsonAdaptedPerson person = read(write(BENSON, false));
+        assertNull(person.getId());
+        assertEquals(BENSON, person.toModelType());
+    }
+
+    @Test
+    public void read_invalidIdAndTags_invalidValuesSkipped() throws Exception {
+        JsonAdaptedPerson person = read("{\"id\":\"1\",\"name\":\"Benson Meier\",\"tags\":[\"owesMoney\",null,"
+                + "[\"friends\"]],\"notes\":{\"id\":2}}");
+        assertNull(person.getId());
+        ContactRecord record = person.toContactRecord(1);
+        assertEquals("Benson Meier", record.getName().get());
+        assertFalse(record.getPhone().isPresent());
+        assertEquals(Arrays.asList("owesMoney"), record.getTags());
+    }
+
+    @Test
+    public void toModelType_missingPhone_throwsIllegalValueException() throws Exception {
+        JsonAdaptedPerson person = read("{\"name\":\"Benson Meier\",\"email\":\"johnd@example.com\","
+                + "\"address\":\"311, Clementi Ave 2, #02-25\"}");
+        String expectedMessage = String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                Phone.class.getSimpleName());
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidEmail_throwsIllegalValueException() throws Exception {
+        JsonAdaptedPerson person = read("{\"name\":\"Benson Meier\",\"phone\":\"98765432\","
+                + "\"email\":\"example.com\",\"address\":\"311, Clementi Ave 2, #02-25\"}");
+        Assert.assertThrows(IllegalValueException.class, Email.MESSAGE_EMAIL_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidTag_throwsIllegalValueException() throws Exception {
+        JsonAdaptedPerson person = read("{\"name\":\"Benson Meier\",\"phone\":\"98765432\","
+                + "\"email\":\"johnd@example.com\",\"address\":\"311, Clementi Ave 2, #02-25\","
+                + "\"tags\":[\"#friend\"]}");
+        Assert.assertThrows(IllegalValueException.class, Tag.MESSAGE_TAG_CONSTRAINTS, person::toModelType);
+    }
+
+    /**
+     * Returns the JSON object of {@code person}, with its ID if {@code isIdWritten}.
+     */
+    private static String write(Person person, boolean isIdWritten) throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            JsonAdaptedPerson.write(generator, person, isIdWritten);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Returns the person read from the JSON object {@code json}.
+     */
+    private static JsonAdaptedPerson read(String json) throws Exception {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            parser.nextToken();
+            return JsonAdaptedPerson.read(parser);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JsonAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        storage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readAddressBook(null);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_charactersToEscape_success() throws Exception {
+        Person person = new PersonBuilder(ALICE).withAddress("\"Block\" 123\\4, Zoë's \u0001 street").build();
+        AddressBook original = new AddressBookBuilder().withPerson(person).build();
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+    }
+
+    @Test
+    public void readAddressBook_unknownFieldsAndNoId_unknownFieldsIgnored() throws Exception {
+        writeJson("{\"version\":2,\"persons\":[{\"name\":\"Alice Pauline\",\"phone\":\"94351253\","
+                + "\"email\":\"alice@example.com\",\"address\":\"123, Jurong West Ave 6, #08-111\","
+                + "\"tags\":[\"friends\"],\"notes\":{\"text\":[1,2]}}],\"extra\":[]}");
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), new AddressBook(addressBook));
+    }
+
+    @Test
+    public void readAddressBook_notJsonFormat_throwsDataConversionException() throws Exception {
+        writeJson("<addressbook/>");
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_notAnObject_throwsDataConversionException() throws Exception {
+        writeJson("[]");
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_fileCutShort_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        String json = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        writeJson(json.substring(0, json.length() - 2));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataConversionException() throws Exception {
+        writeJson("{\"persons\":[{\"name\":\"Alice Pauline\",\"phone\":\"85355255\"}]}");
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        String json = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        String person = json.substring(json.indexOf('[') + 1, json.lastIndexOf(']'));
+        writeJson(json.replace(person, person + "," + person));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveAddressBook(null);
+    }
+
+    private void writeJson(String json) throws Exception {
+        Files.write(filePath, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Asserts that the address book read by {@code storage} has the same persons, with the same IDs, as
+     * {@code expected}.
+     */
+    private void assertReadBack(ReadOnlyAddressBook expected) throws Exception {
+        ReadOnlyAddressBook actual = storage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(actual));
+        assertEquals(getIds(expected), getIds(actual));
+    }
+
+    private List<Long> getIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class JsonContactReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_validObjects_fieldsRead() throws Exception {
+        ContactReader reader = createReader("[\n"
+                + "  { \"name\" : \"Amy Bee\", \"phone\" : \"11111111\", \"email\" : \"amy@example.com\",\n"
+                + "    \"address\" : \"Block 123\", \"tags\" : [ \"friends\", \"husband\" ],\n"
+                + "    \"notes\" : { \"a\" : 1 } },\n"
+                + "  { \"phone\" : 22222222, \"email\" : \"bob@example.com\" }\n"
+                + "]\n");
+
+        assertEquals(Optional.of(new ContactRecord(2, "Amy Bee", "11111111", "amy@example.com", "Block 123",
+                Arrays.asList("friends", "husband"))), reader.read());
+        assertEquals(Optional.of(new ContactRecord(5, null, "22222222", "bob@example.com", null,
+                Collections.emptyList())), reader.read());
+        assertFalse(reader.read().isPresent());
+    }
+
+    @Test
+    public void read_notAnArray_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage(JsonContactReader.MESSAGE_NOT_AN_ARRAY);
+        createReader("{ \"name\" : \"Amy Bee\" }").read();
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage(String.format(JsonContactReader.MESSAGE_NOT_AN_OBJECT, 2));
+        createReader("[\n\"Amy Bee\"\n]").read();
+    }
+
+    @Test
+    public void read_unterminatedObject_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        createReader("[ { \"name\" : \"Amy Bee\"").read();
+    }
+
+    private ContactReader createReader(String contents) throws IOException {
+        return new JsonContactReader(new StringReader(contents));
+    }
+}
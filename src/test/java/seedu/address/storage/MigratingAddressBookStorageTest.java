@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class MigratingAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path xmlFilePath;
+    private Path binaryFilePath;
+    private XmlAddressBookStorage xmlStorage;
+    private BinaryAddressBookStorage binaryStorage;
+    private MigratingAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        xmlFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        binaryFilePath = FileUtil.replaceExtension(xmlFilePath, ".bin");
+        xmlStorage = new XmlAddressBookStorage(xmlFilePath);
+        binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        storage = new MigratingAddressBookStorage(binaryStorage, xmlStorage);
+    }
+
+    @Test
+    public void constructor_nullOldStorage_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new MigratingAddressBookStorage(binaryStorage, null);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void readAddressBook_formatSwitchedWithXmlFile_migrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        xmlStorage.saveAddressBook(original);
+        byte[] xmlFile = Files.readAllBytes(xmlFilePath);
+
+        assertReadBack(original, storage);
+        assertTrue(Files.exists(binaryFilePath));
+        assertReadBack(original, binaryStorage);
+
+        // the XML file is left as it is, even as the migrated address book changes
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertReadBack(original, storage);
+        assertArrayEquals(xmlFile, Files.readAllBytes(xmlFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFormatSwitchedWithXmlFile_migrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        xmlStorage.saveAddressBook(original);
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(
+                FileUtil.replaceExtension(xmlFilePath, ".json"));
+
+        assertReadBack(original, new MigratingAddressBookStorage(jsonStorage, xmlStorage));
+        assertReadBack(original, jsonStorage);
+    }
+
+    @Test
+    public void readAddressBook_bothFiles_newFileRead() throws Exception {
+        xmlStorage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        binaryStorage.saveAddressBook(addressBook);
+        assertReadBack(addressBook, storage);
+    }
+
+    @Test
+    public void readAddressBook_journaledFormatSwitchedWithXmlFile_migrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        xmlStorage.saveAddressBook(original);
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(storage);
+
+        assertReadBack(original, journaledStorage);
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+        assertReadBack(original, new JournaledAddressBookStorage(storage));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveAddressBook(null);
+    }
+
+    /**
+     * Asserts that the address book read by {@code storage} has the same persons, with the same IDs, as
+     * {@code expected}.
+     */
+    private void assertReadBack(ReadOnlyAddressBook expected, AddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook actual = storage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(actual));
+        assertEquals(getIds(expected), getIds(actual));
+    }
+
+    private List<Long> getIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
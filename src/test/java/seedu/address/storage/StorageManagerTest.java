@@ -4,14 +4,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
@@ -19,10 +23,13 @@ import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
     @Rule
     public TemporaryFolder testFolder = new TemporaryFolder();
     @Rule
@@ -83,6 +90,73 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_burstOfChangesSavedBehind_latestChangeSavedOnce() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                TimeUnit.MINUTES.toMillis(1));
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getTypicalPersons()) {
+            addressBook.addPerson(person);
+            storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook(addressBook)));
+        }
+        assertEquals(0, addressBookStorage.saveCount.get());
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount.get());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // nothing is left to be saved
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount.get());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_savedBehindAfterDelay_saved() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                1);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(getTypicalAddressBook()));
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (addressBookStorage.saveCount.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, addressBookStorage.saveCount.get());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_savedBehindExceptionThrown_eventRaised() {
+        Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")), TimeUnit.MINUTES.toMillis(1));
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void constructor_negativeSaveDelay_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new StorageManager(new XmlAddressBookStorage(Paths.get("dummy")), new JsonUserPrefsStorage(Paths.get("dummy")),
+                -1);
+    }
+
+    /**
+     * A Stub class to count the number of times the address book is saved
+     */
+    class SaveCountingAddressBookStorage extends XmlAddressBookStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+
+        public SaveCountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount.incrementAndGet();
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class VCardContactReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_validCards_fieldsRead() throws Exception {
+        ContactReader reader = createReader("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "FN:Amy Bee\r\n"
+                + "N:Bee;Amy;;;\r\n"
+                + "TEL;TYPE=cell:11111111\r\n"
+                + "TEL;TYPE=home:99999999\r\n"
+                + "EMAIL:amy@example.com\r\n"
+                + "ADR;TYPE=home:;;Block 123\\, Jurong West;Singapore;;;\r\n"
+                + "CATEGORIES:friends,husband\r\n"
+                + "END:VCARD\r\n"
+                + "BEGIN:VCARD\r\n"
+                + "N:Choo;Bob\r\n"
+                + "item1.TEL:22222222\r\n"
+                + "EMAIL:bob@exam\r\n"
+                + " ple.com\r\n"
+                + "END:VCARD\r\n");
+
+        assertEquals(Optional.of(new ContactRecord(1, "Amy Bee", "11111111", "amy@example.com",
+                "Block 123, Jurong West, Singapore", Arrays.asList("friends", "husband"))), reader.read());
+        assertEquals(Optional.of(new ContactRecord(11, "Bob Choo", "22222222", "bob@example.com", null,
+                Collections.emptyList())), reader.read());
+        assertFalse(reader.read().isPresent());
+    }
+
+    @Test
+    public void read_linesOutsideCards_ignored() throws Exception {
+        ContactReader reader = createReader("\n"
+                + "not a card\n"
+                + "begin:vcard\n"
+                + "fn:Amy Bee\n"
+                + "end:vcard\n");
+
+        assertEquals(Optional.of(new ContactRecord(3, "Amy Bee", null, null, null, Collections.emptyList())),
+                reader.read());
+        assertFalse(reader.read().isPresent());
+    }
+
+    @Test
+    public void read_unterminatedCard_throwsIoException() throws Exception {
+        ContactReader reader = createReader("BEGIN:VCARD\n"
+                + "FN:Amy Bee\n");
+
+        thrown.expect(IOException.class);
+        thrown.expectMessage(String.format(VCardContactReader.MESSAGE_UNTERMINATED_CARD, 1));
+        reader.read();
+    }
+
+    private ContactReader createReader(String contents) {
+        return new VCardContactReader(new BufferedReader(new StringReader(contents)));
+    }
+}
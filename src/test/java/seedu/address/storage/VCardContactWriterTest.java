@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VCardContactWriterTest {
+
+    @Test
+    public void write_person_cardWritten() throws Exception {
+        StringWriter output = new StringWriter();
+        try (ContactWriter writer = new VCardContactWriter(output)) {
+            writer.write(ALICE);
+        }
+        assertEquals("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "FN:Alice Pauline\r\n"
+                + "N:Pauline;Alice;;;\r\n"
+                + "TEL:94351253\r\n"
+                + "EMAIL:alice@example.com\r\n"
+                + "ADR:;;123\\, Jurong West Ave 6\\, #08-111;;;;\r\n"
+                + "CATEGORIES:friends\r\n"
+                + "END:VCARD\r\n", output.toString());
+    }
+
+    @Test
+    public void write_longField_lineFoldedAndReadBack() throws Exception {
+        String address = String.join(" ", Collections.nCopies(30, "Block 123;"));
+        Person person = new PersonBuilder().withAddress(address).withTags().build();
+        StringWriter output = new StringWriter();
+        try (ContactWriter writer = new VCardContactWriter(output)) {
+            writer.write(person);
+        }
+
+        for (String line : output.toString().split("\r\n")) {
+            assertTrue(line.length() <= 75);
+        }
+        ContactReader reader = new VCardContactReader(new BufferedReader(new StringReader(output.toString())));
+        assertEquals(Optional.of(new ContactRecord(1, "Alice Pauline", "85355255", "alice@gmail.com", address,
+                Collections.emptyList())), reader.read());
+    }
+}
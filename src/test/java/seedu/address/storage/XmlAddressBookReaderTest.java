@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalPersons;
+
+public class XmlAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.xml");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
+    private static final Path LEGACY_FILE = Paths.get("src", "test", "data", "XmlUtilTest", "validAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), XmlAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_unknownElementsAndAttributes_sameAsUnmarshalled() throws Exception {
+        AddressBook unmarshalled = XmlUtil.getDataFromFile(LEGACY_FILE, XmlSerializableAddressBook.class)
+                .toModelType();
+        try (InputStream in = Files.newInputStream(LEGACY_FILE)) {
+            assertEquals(unmarshalled, XmlAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_ids_idsKept() throws Exception {
+        AddressBook addressBook = read("<addressbook><persons id=\"42\"><name>Hans Muster</name>"
+                + "<phone>9482424</phone><email>hans@example.com</email><address>4th street</address>"
+                + "<tagged>friends</tagged></persons>"
+                + "<persons id=\"not a number\"><name>Ruth Mueller</name><phone>87249245</phone>"
+                + "<email>ruth@example.com</email><address>81th street</address></persons></addressbook>");
+
+        Person hans = addressBook.getPersonList().get(0);
+        assertEquals(42, hans.getId());
+        assertEquals(1, hans.getTags().size());
+        assertNotEquals(42, addressBook.getPersonList().get(1).getId());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            XmlAddressBookReader.read(in);
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            XmlAddressBookReader.read(in);
+        }
+    }
+
+    @Test
+    public void read_otherRootElement_throwsXmlStreamException() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read("<person><name>Hans Muster</name></person>");
+    }
+
+    @Test
+    public void read_notXml_throwsXmlStreamException() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read("not xml format!");
+    }
+
+    private AddressBook read(String xml) throws Exception {
+        return XmlAddressBookReader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+}
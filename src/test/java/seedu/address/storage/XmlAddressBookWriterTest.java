@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class XmlAddressBookWriterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_typicalAddressBook_sameAsMarshalled() throws Exception {
+        assertSameAsMarshalled(getTypicalAddressBook());
+    }
+
+    @Test
+    public void write_emptyAddressBook_sameAsMarshalled() throws Exception {
+        assertSameAsMarshalled(new AddressBook());
+    }
+
+    @Test
+    public void write_specialCharacters_sameAsMarshalledAndReadBack() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(new PersonBuilder(ALICE).withEmail("o'neil@example.com")
+                        .withAddress("<Block> 1 & \"2\",\t]]> Zürich 北京").build())
+                .build();
+        assertSameAsMarshalled(addressBook);
+
+        StringWriter output = new StringWriter();
+        XmlAddressBookWriter.write(output, addressBook);
+        AddressBook readBack = XmlAddressBookReader.read(
+                new ByteArrayInputStream(output.toString().getBytes(StandardCharsets.UTF_8)));
+        assertEquals(addressBook, readBack);
+        assertEquals(addressBook.getPersonList().get(0).getId(), readBack.getPersonList().get(0).getId());
+    }
+
+    /**
+     * Asserts that {@code addressBook} is written as the same bytes as it is marshalled to as an
+     * {@code XmlSerializableAddressBook}.
+     */
+    private void assertSameAsMarshalled(ReadOnlyAddressBook addressBook) throws Exception {
+        Path marshalledFile = testFolder.newFile().toPath();
+        XmlUtil.saveDataToFile(marshalledFile, new XmlSerializableAddressBook(addressBook));
+        assertArrayEquals(Files.readAllBytes(marshalledFile), write(addressBook));
+    }
+
+    private byte[] write(ReadOnlyAddressBook addressBook) throws IOException {
+        StringWriter output = new StringWriter();
+        XmlAddressBookWriter.write(output, addressBook);
+        return output.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -21,6 +21,7 @@ public class PersonBuilder {
     public static final String DEFAULT_EMAIL = "alice@gmail.com";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
 
+    private Long id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -36,7 +37,7 @@ public class PersonBuilder {
     }
 
     /**
-     * Initializes the PersonBuilder with the data of {@code personToCopy}.
+     * Initializes the PersonBuilder with the data of {@code personToCopy}, but not its ID.
      */
     public PersonBuilder(Person personToCopy) {
         name = personToCopy.getName();
@@ -46,6 +47,14 @@ public class PersonBuilder {
         tags = new HashSet<>(personToCopy.getTags());
     }
 
+    /**
+     * Sets the ID of the {@code Person} that we are building, which is otherwise given a new ID.
+     */
+    public PersonBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Person} that we are building.
      */
@@ -86,8 +95,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Returns the {@code Person} that we are building, which is given a new ID unless one was set.
+     */
     public Person build() {
-        return new Person(name, phone, email, address, tags);
+        if (id == null) {
+            return new Person(name, phone, email, address, tags);
+        }
+        return new Person(id, name, phone, email, address, tags);
     }
 
 }
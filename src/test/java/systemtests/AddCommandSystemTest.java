@@ -21,6 +21,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
@@ -185,7 +186,8 @@ public class AddCommandSystemTest extends AddressBookSystemTest {
      * 3. Result display box displays the success message of executing {@code AddCommand} with the details of
      * {@code toAdd}.<br>
      * 4. {@code Storage} and {@code PersonListPanel} equal to the corresponding components in
-     * the current model added with {@code toAdd}.<br>
+     * the current model added with {@code toAdd}. The filter of the person list is kept, so {@code toAdd} is only
+     * shown if the person list was not filtered, or if it matches the filter.<br>
      * 5. Browser url and selected card remain unchanged.<br>
      * 6. Status bar's sync status changes.<br>
      * Verifications 1, 3 and 4 are performed by
@@ -203,7 +205,12 @@ public class AddCommandSystemTest extends AddressBookSystemTest {
      */
     private void assertCommandSuccess(String command, Person toAdd) {
         Model expectedModel = getModel();
+        boolean isShowingAllPersons = expectedModel.getFilteredPersonList().size()
+                == expectedModel.getAddressBook().getPersonList().size();
         expectedModel.addPerson(toAdd);
+        if (isShowingAllPersons) {
+            expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
         String expectedResultMessage = String.format(AddCommand.MESSAGE_SUCCESS, toAdd);
 
         assertCommandSuccess(command, expectedModel, expectedResultMessage);